@@ -0,0 +1,365 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.model;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.FieldVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Large synthetic domain model generated at runtime to measure bootstrap behavior with hundreds of entities and
+ * repositories. Each generated entity {@code SyntheticEntity<n>} declares a generated {@code Long} identifier, a couple
+ * of simple properties, an embedded {@code SyntheticAddress}, a one-to-many {@code children} collection referencing
+ * the next entity and a named query. Each entity is accompanied by a {@code SyntheticEntity<n>Repository} declaring
+ * derived, declared, native and named queries, a projection and an entity graph query method.
+ *
+ * @author agent
+ */
+public class SyntheticDomain {
+
+	public static final String PACKAGE = "org.springframework.data.jpa.model.synthetic";
+
+	private final SyntheticClassLoader classLoader;
+	private final List<Class<?>> entities;
+	private final List<Class<?>> repositories;
+
+	private SyntheticDomain(SyntheticClassLoader classLoader, List<Class<?>> entities, List<Class<?>> repositories) {
+
+		this.classLoader = classLoader;
+		this.entities = entities;
+		this.repositories = repositories;
+	}
+
+	/**
+	 * Generates a domain model consisting of {@code entityCount} entities and their repositories.
+	 *
+	 * @param entityCount number of entities, must be positive.
+	 * @return the generated domain model.
+	 */
+	public static SyntheticDomain generate(int entityCount) {
+
+		Assert.isTrue(entityCount > 0, "Entity count must be positive");
+
+		SyntheticClassLoader classLoader = new SyntheticClassLoader(SyntheticDomain.class.getClassLoader());
+		classLoader.add(getAddressName(), generateAddress());
+
+		for (int i = 0; i < entityCount; i++) {
+
+			boolean hasChildren = i + 1 < entityCount;
+
+			classLoader.add(getEntityName(i), generateEntity(i, hasChildren ? getEntityName(i + 1) : null));
+			classLoader.add(getRepositoryName(i), generateRepository(i, hasChildren));
+		}
+
+		List<Class<?>> entities = new ArrayList<>(entityCount);
+		List<Class<?>> repositories = new ArrayList<>(entityCount);
+
+		try {
+
+			for (int i = 0; i < entityCount; i++) {
+				entities.add(classLoader.loadClass(getEntityName(i)));
+				repositories.add(classLoader.loadClass(getRepositoryName(i)));
+			}
+		} catch (ClassNotFoundException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+
+		return new SyntheticDomain(classLoader, Collections.unmodifiableList(entities),
+				Collections.unmodifiableList(repositories));
+	}
+
+	/**
+	 * Returns the name of the {@code index}-th generated entity class.
+	 *
+	 * @param index the entity index.
+	 * @return the class name.
+	 */
+	public static String getEntityName(int index) {
+		return PACKAGE + ".SyntheticEntity" + index;
+	}
+
+	/**
+	 * Returns the name of the repository interface of the {@code index}-th generated entity.
+	 *
+	 * @param index the entity index.
+	 * @return the interface name.
+	 */
+	public static String getRepositoryName(int index) {
+		return getEntityName(index) + "Repository";
+	}
+
+	/**
+	 * @return the {@link ClassLoader} defining the generated types.
+	 */
+	public ClassLoader getClassLoader() {
+		return classLoader;
+	}
+
+	/**
+	 * @return the generated entity types in the order of their index.
+	 */
+	public List<Class<?>> getEntities() {
+		return entities;
+	}
+
+	/**
+	 * @return the generated repository interfaces in the order of their index.
+	 */
+	public List<Class<?>> getRepositories() {
+		return repositories;
+	}
+
+	/**
+	 * Creates a new {@link EntityManagerFactory} for the {@code synthetic} persistence unit managing the generated
+	 * entities using an in-memory H2 database.
+	 *
+	 * @param database name of the in-memory database.
+	 * @return the {@link EntityManagerFactory}.
+	 */
+	public EntityManagerFactory createEntityManagerFactory(String database) {
+
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:" + database);
+		properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+		properties.put("hibernate.classLoaders", List.of(classLoader));
+		properties.put("hibernate.loaded_classes", entities);
+
+		ClassLoader previous = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader(classLoader);
+
+		try {
+			return Persistence.createEntityManagerFactory("synthetic", properties);
+		} finally {
+			Thread.currentThread().setContextClassLoader(previous);
+		}
+	}
+
+	private static String getAddressName() {
+		return PACKAGE + ".SyntheticAddress";
+	}
+
+	private static byte[] generateAddress() {
+
+		ClassWriter writer = createClass(getAddressName(), "Ljakarta/persistence/Embeddable;");
+
+		writer.visitField(Opcodes.ACC_PRIVATE, "street", Type.getDescriptor(String.class), null, null).visitEnd();
+		writer.visitField(Opcodes.ACC_PRIVATE, "city", Type.getDescriptor(String.class), null, null).visitEnd();
+
+		return finish(writer);
+	}
+
+	private static byte[] generateEntity(int index, @Nullable String childEntity) {
+
+		String entityName = getSimpleName(getEntityName(index));
+		ClassWriter writer = createClass(getEntityName(index), "Ljakarta/persistence/Entity;");
+
+		AnnotationVisitor namedQuery = writer.visitAnnotation("Ljakarta/persistence/NamedQuery;", true);
+		namedQuery.visit("name", entityName + ".findNamed");
+		namedQuery.visit("query", "select e from %s e where e.name = ?1".formatted(entityName));
+		namedQuery.visitEnd();
+
+		FieldVisitor id = writer.visitField(Opcodes.ACC_PRIVATE, "id", Type.getDescriptor(Long.class), null, null);
+		id.visitAnnotation("Ljakarta/persistence/Id;", true).visitEnd();
+		id.visitAnnotation("Ljakarta/persistence/GeneratedValue;", true).visitEnd();
+		id.visitEnd();
+
+		writer.visitField(Opcodes.ACC_PRIVATE, "name", Type.getDescriptor(String.class), null, null).visitEnd();
+		writer.visitField(Opcodes.ACC_PRIVATE, "description", Type.getDescriptor(String.class), null, null).visitEnd();
+		writer.visitField(Opcodes.ACC_PRIVATE, "rank", Type.getDescriptor(Integer.class), null, null).visitEnd();
+		writer.visitField(Opcodes.ACC_PRIVATE, "active", Type.getDescriptor(Boolean.class), null, null).visitEnd();
+
+		FieldVisitor address = writer.visitField(Opcodes.ACC_PRIVATE, "address", getDescriptor(getAddressName()), null,
+				null);
+		address.visitAnnotation("Ljakarta/persistence/Embedded;", true).visitEnd();
+		address.visitEnd();
+
+		if (childEntity != null) {
+
+			FieldVisitor children = writer.visitField(Opcodes.ACC_PRIVATE, "children", Type.getDescriptor(List.class),
+					"Ljava/util/List<" + getDescriptor(childEntity) + ">;", null);
+			children.visitAnnotation("Ljakarta/persistence/OneToMany;", true).visitEnd();
+
+			AnnotationVisitor joinColumn = children.visitAnnotation("Ljakarta/persistence/JoinColumn;", true);
+			joinColumn.visit("name", "owner_id");
+			joinColumn.visitEnd();
+
+			children.visitEnd();
+		}
+
+		return finish(writer);
+	}
+
+	private static byte[] generateRepository(int index, boolean hasChildren) {
+
+		String entity = getEntityName(index);
+		String entityName = getSimpleName(entity);
+		String list = "Ljava/util/List<" + getDescriptor(entity) + ">;";
+
+		ClassWriter writer = new ClassWriter(0);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT | Opcodes.ACC_INTERFACE,
+				getInternalName(getRepositoryName(index)),
+				"Ljava/lang/Object;Lorg/springframework/data/repository/Repository<" + getDescriptor(entity)
+						+ "Ljava/lang/Long;>;",
+				"java/lang/Object", new String[] { "org/springframework/data/repository/Repository" });
+
+		addMethod(writer, "findByNameAndActive", "(Ljava/lang/String;Ljava/lang/Boolean;)Ljava/util/List;",
+				"(Ljava/lang/String;Ljava/lang/Boolean;)" + list).visitEnd();
+
+		addMethod(writer, "findByRankGreaterThan",
+				"(Ljava/lang/Integer;Lorg/springframework/data/domain/Pageable;)Lorg/springframework/data/domain/Page;",
+				"(Ljava/lang/Integer;Lorg/springframework/data/domain/Pageable;)Lorg/springframework/data/domain/Page<"
+						+ getDescriptor(entity) + ">;").visitEnd();
+
+		addMethod(writer, "countByActive", "(Ljava/lang/Boolean;)J", null).visitEnd();
+
+		MethodVisitor declared = addMethod(writer, "findDeclared", "(Ljava/lang/String;)Ljava/util/List;",
+				"(Ljava/lang/String;)" + list);
+		AnnotationVisitor query = declared.visitAnnotation("Lorg/springframework/data/jpa/repository/Query;", true);
+		query.visit("value", "select e from %s e where e.description like ?1 order by e.rank".formatted(entityName));
+		query.visitEnd();
+		declared.visitEnd();
+
+		MethodVisitor nativeQuery = addMethod(writer, "findNative", "(Ljava/lang/String;)Ljava/util/List;",
+				"(Ljava/lang/String;)" + list);
+		query = nativeQuery.visitAnnotation("Lorg/springframework/data/jpa/repository/Query;", true);
+		query.visit("value", "select * from %s where name = ?1".formatted(entityName));
+		query.visit("nativeQuery", true);
+		query.visitEnd();
+		nativeQuery.visitEnd();
+
+		addMethod(writer, "findNamed", "(Ljava/lang/String;)Ljava/util/List;", "(Ljava/lang/String;)" + list).visitEnd();
+
+		addMethod(writer, "findProjectedByActive", "(Ljava/lang/Boolean;)Ljava/util/List;",
+				"(Ljava/lang/Boolean;)Ljava/util/List<" + getDescriptor(ISyntheticProjection.class.getName()) + ">;")
+				.visitEnd();
+
+		if (hasChildren) {
+
+			MethodVisitor entityGraph = addMethod(writer, "findWithChildrenByName", "(Ljava/lang/String;)Ljava/util/List;",
+					"(Ljava/lang/String;)" + list);
+			AnnotationVisitor graph = entityGraph
+					.visitAnnotation("Lorg/springframework/data/jpa/repository/EntityGraph;", true);
+			AnnotationVisitor attributePaths = graph.visitArray("attributePaths");
+			attributePaths.visit(null, "children");
+			attributePaths.visitEnd();
+			graph.visitEnd();
+			entityGraph.visitEnd();
+		}
+
+		return finish(writer);
+	}
+
+	private static MethodVisitor addMethod(ClassWriter writer, String name, String descriptor,
+			@Nullable String signature) {
+		return writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT, name, descriptor, signature, null);
+	}
+
+	private static String getSimpleName(String className) {
+		return className.substring(className.lastIndexOf('.') + 1);
+	}
+
+	private static String getInternalName(String className) {
+		return className.replace('.', '/');
+	}
+
+	private static String getDescriptor(String className) {
+		return "L" + getInternalName(className) + ";";
+	}
+
+	private static ClassWriter createClass(String className, String annotation) {
+
+		ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, getInternalName(className), null,
+				"java/lang/Object", null);
+		writer.visitAnnotation(annotation, true).visitEnd();
+
+		MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+		constructor.visitCode();
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+		constructor.visitInsn(Opcodes.RETURN);
+		constructor.visitMaxs(0, 0);
+		constructor.visitEnd();
+
+		return writer;
+	}
+
+	private static byte[] finish(ClassWriter writer) {
+
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+
+	/**
+	 * {@link ClassLoader} defining the generated types.
+	 */
+	static class SyntheticClassLoader extends ClassLoader {
+
+		private final Map<String, byte[]> definitions = new HashMap<>();
+
+		SyntheticClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		void add(String className, byte[] bytecode) {
+			definitions.put(className, bytecode);
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+
+			byte[] bytecode = definitions.get(name);
+
+			if (bytecode == null) {
+				return super.findClass(name);
+			}
+
+			return defineClass(name, bytecode, 0, bytecode.length);
+		}
+
+		@Nullable
+		@Override
+		public InputStream getResourceAsStream(String name) {
+
+			if (name.endsWith(".class")) {
+
+				byte[] bytecode = definitions.get(name.substring(0, name.length() - 6).replace('/', '.'));
+
+				if (bytecode != null) {
+					return new ByteArrayInputStream(bytecode);
+				}
+			}
+
+			return super.getResourceAsStream(name);
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.jpa.model.SyntheticDomain;
+import org.springframework.data.jpa.repository.config.JpaMetamodelMappingContextFactoryBean;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactoryBean;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Bootstrap benchmarks against a large {@link SyntheticDomain synthetic domain model} measuring the time to create the
+ * first repository, all repositories and a full application context as well as the heap retained per repository.
+ * Benchmarks run as single shots in fresh forks without warmup as bootstrap happens once per application. Warmup
+ * iterations would populate JVM-wide caches such as the indexed metamodel and parsed queries that bootstrap is
+ * supposed to build.
+ *
+ * @author agent
+ */
+@Microbenchmark
+@Fork(5)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Timeout(time = 2, timeUnit = TimeUnit.MINUTES)
+public class RepositoryBootstrapTests {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		@Param({ "100", "500" }) int entities;
+
+		SyntheticDomain domain;
+		EntityManagerFactory entityManagerFactory;
+		EntityManager entityManager;
+
+		@Setup(Level.Trial)
+		public void doSetup() {
+
+			domain = SyntheticDomain.generate(entities);
+			entityManagerFactory = domain.createEntityManagerFactory("bootstrap");
+			entityManager = entityManagerFactory.createEntityManager();
+		}
+
+		@TearDown(Level.Trial)
+		public void doTearDown() {
+
+			entityManager.close();
+			entityManagerFactory.close();
+		}
+
+		JpaRepositoryFactory createRepositoryFactory() {
+
+			JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+			repositoryFactory.setBeanClassLoader(domain.getClassLoader());
+
+			return repositoryFactory;
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RetainedMemory {
+
+		public long bytesPerRepository;
+
+		long usedHeapBefore;
+		@Nullable List<Object> repositories;
+
+		@Setup(Level.Iteration)
+		public void doSetup() {
+
+			bytesPerRepository = 0;
+			usedHeapBefore = getUsedHeap();
+		}
+
+		@TearDown(Level.Iteration)
+		public void doTearDown() {
+
+			if (repositories != null) {
+				bytesPerRepository = (getUsedHeap() - usedHeapBefore) / repositories.size();
+			}
+
+			repositories = null;
+		}
+	}
+
+	@Benchmark
+	public Object firstRepository(BenchmarkParameters parameters) {
+		return parameters.createRepositoryFactory().getRepository(parameters.domain.getRepositories().get(0));
+	}
+
+	@Benchmark
+	public List<Object> allRepositories(BenchmarkParameters parameters) {
+		return createRepositories(parameters);
+	}
+
+	@Benchmark
+	public void bootstrapContext(BenchmarkParameters parameters) {
+
+		SyntheticDomain domain = parameters.domain;
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+
+			context.setClassLoader(domain.getClassLoader());
+			context.registerBean("entityManagerFactory", EntityManagerFactory.class,
+					() -> domain.createEntityManagerFactory("context"));
+			context.registerBean("transactionManager", JpaTransactionManager.class);
+			context.registerBean("jpaMappingContext", JpaMetamodelMappingContextFactoryBean.class);
+
+			for (Class<?> repositoryInterface : domain.getRepositories()) {
+
+				RootBeanDefinition definition = new RootBeanDefinition(JpaRepositoryFactoryBean.class);
+				definition.getConstructorArgumentValues().addGenericArgumentValue(repositoryInterface);
+				definition.getPropertyValues().add("mappingContext", new RuntimeBeanReference("jpaMappingContext"));
+
+				context.registerBeanDefinition(repositoryInterface.getSimpleName(), definition);
+			}
+
+			context.refresh();
+		}
+	}
+
+	@Benchmark
+	public List<Object> retainedMemoryPerRepository(BenchmarkParameters parameters, RetainedMemory memory) {
+
+		// heap usage is measured outside of the timed region while the state keeps repositories reachable
+		memory.repositories = createRepositories(parameters);
+
+		return memory.repositories;
+	}
+
+	private static List<Object> createRepositories(BenchmarkParameters parameters) {
+
+		JpaRepositoryFactory repositoryFactory = parameters.createRepositoryFactory();
+		List<Object> repositories = new ArrayList<>(parameters.domain.getRepositories().size());
+
+		for (Class<?> repositoryInterface : parameters.domain.getRepositories()) {
+			repositories.add(repositoryFactory.getRepository(repositoryInterface));
+		}
+
+		return repositories;
+	}
+
+	private static long getUsedHeap() {
+
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -60,12 +60,14 @@ public class RepositoryFinderTests {
 
 	private static final String PERSON_FIRSTNAME = "first";
 	private static final String COLUMN_PERSON_FIRSTNAME = "firstname";
+	private static final String RENDER_JPQL_PROPERTY = "spring.data.jpa.query.derived.render-jpql";
 
 	@State(Scope.Benchmark)
 	public static class BenchmarkParameters {
 
 		EntityManager entityManager;
 		PersonRepository repositoryProxy;
+		PersonRepository renderingRepositoryProxy;
 
 		@Setup(Level.Iteration)
 		public void doSetup() {
@@ -94,6 +96,7 @@ public class RepositoryFinderTests {
 			}
 
 			this.repositoryProxy = createRepository();
+			this.renderingRepositoryProxy = createRenderingRepository();
 		}
 
 		@TearDown(Level.Iteration)
@@ -116,6 +119,17 @@ public class RepositoryFinderTests {
 			JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
 			return repositoryFactory.getRepository(PersonRepository.class);
 		}
+
+		PersonRepository createRenderingRepository() {
+
+			System.setProperty(RENDER_JPQL_PROPERTY, "true");
+
+			try {
+				return createRepository();
+			} finally {
+				System.clearProperty(RENDER_JPQL_PROPERTY);
+			}
+		}
 	}
 
 	@Benchmark
@@ -159,6 +173,11 @@ public class RepositoryFinderTests {
 		return parameters.repositoryProxy.findAllByFirstname(PERSON_FIRSTNAME);
 	}
 
+	@Benchmark
+	public List<Person> derivedFinderMethodRenderedJpql(BenchmarkParameters parameters) {
+		return parameters.renderingRepositoryProxy.findAllByFirstname(PERSON_FIRSTNAME);
+	}
+
 	@Benchmark
 	public List<IPersonProjection> derivedFinderMethodWithInterfaceProjection(BenchmarkParameters parameters) {
 		return parameters.repositoryProxy.findAllAndProjectToInterfaceByFirstname(PERSON_FIRSTNAME);
@@ -184,6 +203,11 @@ public class RepositoryFinderTests {
 		return parameters.repositoryProxy.countByFirstname(PERSON_FIRSTNAME);
 	}
 
+	@Benchmark
+	public Long derivedCountRenderedJpql(BenchmarkParameters parameters) {
+		return parameters.renderingRepositoryProxy.countByFirstname(PERSON_FIRSTNAME);
+	}
+
 	@Benchmark
 	public Long stringBasedCount(BenchmarkParameters parameters) {
 		return parameters.repositoryProxy.countWithAnnotatedQueryByFirstname(PERSON_FIRSTNAME);
@@ -16,8 +16,14 @@
 package org.springframework.data.jpa.repository.query;
 
 import jmh.mbr.junit5.Microbenchmark;
+import net.sf.jsqlparser.schema.Column;
+import net.sf.jsqlparser.statement.select.OrderByElement;
+import net.sf.jsqlparser.statement.select.SetOperationList;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.List;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
@@ -30,6 +36,7 @@ import org.openjdk.jmh.annotations.Timeout;
 import org.openjdk.jmh.annotations.Warmup;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.util.SerializationUtils;
 
 /**
  * @author Mark Paluch
@@ -58,6 +65,7 @@ public class JSqlParserQueryEnhancerTests {
 					union select SOME_COLUMN from SOME_OTHER_OTHER_TABLE""";
 
 			enhancer = new JSqlParserQueryEnhancer(DeclaredQuery.of(s, true));
+			serialized = SerializationUtils.serialize(JSqlParserQueryEnhancer.parseStatement(s, SetOperationList.class));
 
 		}
 	}
@@ -67,4 +75,28 @@ public class JSqlParserQueryEnhancerTests {
 		return p.enhancer.applySorting(p.sort);
 	}
 
+	@Benchmark
+	public Object createCountQuery(BenchmarkParameters p) {
+		return p.enhancer.createCountQueryFor();
+	}
+
+	/**
+	 * Baseline using a deep copy of the parsed statement through Java serialization before applying the sort.
+	 */
+	@Benchmark
+	public Object baselineApplySortWithSerializationCopy(BenchmarkParameters p) throws Exception {
+
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(p.serialized))) {
+
+			SetOperationList select = (SetOperationList) ois.readObject();
+
+			OrderByElement orderByElement = new OrderByElement();
+			orderByElement.setExpression(new Column(p.sort.iterator().next().getProperty()));
+			orderByElement.setAscDescPresent(true);
+			select.setOrderByElements(List.of(orderByElement));
+
+			return select.toString();
+		}
+	}
+
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.ScrollPosition.Direction;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.jpa.model.Person;
+import org.springframework.data.jpa.repository.query.KeysetScrollDelegate.QueryStrategy;
+
+/**
+ * Benchmarks for keyset scrolling deep into a result using nested range predicates compared to the disjunction of
+ * all sort segments.
+ *
+ * @author agent
+ */
+@Microbenchmark
+@Fork(1)
+@Warmup(time = 2, iterations = 3)
+@Measurement(time = 2)
+@Timeout(time = 2)
+public class KeysetScrollTests {
+
+	private static final int PERSONS = 10_000;
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		EntityManagerFactory entityManagerFactory;
+		EntityManager entityManager;
+
+		Sort sort = Sort.by("lastname", "firstname", "id");
+		KeysetScrollPosition position;
+
+		@Setup(Level.Trial)
+		public void doSetup() {
+
+			Map<String, String> properties = new HashMap<>();
+			properties.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:keyset");
+			properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+			properties.put("hibernate.hbm2ddl.auto", "create-drop");
+
+			entityManagerFactory = Persistence.createEntityManagerFactory("benchmark", properties);
+			entityManager = entityManagerFactory.createEntityManager();
+
+			entityManager.getTransaction().begin();
+
+			for (int i = 0; i < PERSONS; i++) {
+
+				entityManager.persist(
+						new Person("first-" + (i % 100), "last-" + (i % 10), "person-%d@benchmark.com".formatted(i)));
+
+				if (i % 500 == 0) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+
+			entityManager.createNativeQuery("CREATE INDEX person_keyset ON person (lastname, firstname, id)")
+					.executeUpdate();
+
+			entityManager.getTransaction().commit();
+			entityManager.clear();
+
+			// position close to the end of the result
+			Person deep = entityManager
+					.createQuery("SELECT p FROM org.springframework.data.jpa.model.Person p ORDER BY p.lastname, p.firstname, p.id",
+							Person.class)
+					.setFirstResult(PERSONS - 100).setMaxResults(1).getSingleResult();
+
+			Map<String, Object> keys = new LinkedHashMap<>();
+			keys.put("lastname", deep.getLastname());
+			keys.put("firstname", deep.getFirstname());
+			keys.put("id", deep.getId());
+
+			position = ScrollPosition.forward(keys);
+		}
+
+		@TearDown(Level.Trial)
+		public void doTearDown() {
+
+			entityManager.close();
+			entityManagerFactory.close();
+		}
+	}
+
+	@Benchmark
+	public List<Person> nestedRangePredicate(BenchmarkParameters parameters) {
+		return scroll(parameters, true);
+	}
+
+	@Benchmark
+	public List<Person> disjunctionPredicate(BenchmarkParameters parameters) {
+		return scroll(parameters, false);
+	}
+
+	private static List<Person> scroll(BenchmarkParameters parameters, boolean inclusiveComparison) {
+
+		CriteriaBuilder cb = parameters.entityManager.getCriteriaBuilder();
+		CriteriaQuery<Person> query = cb.createQuery(Person.class);
+		Root<Person> root = query.from(Person.class);
+
+		Predicate predicate = KeysetScrollDelegate.of(Direction.FORWARD).createPredicate(parameters.position,
+				parameters.sort, new CriteriaQueryStrategy(root, cb, inclusiveComparison));
+
+		query.where(predicate).orderBy(QueryUtils.toOrders(parameters.sort, root, cb));
+
+		List<Person> result = parameters.entityManager.createQuery(query).setMaxResults(20).getResultList();
+		parameters.entityManager.clear();
+
+		return result;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static class CriteriaQueryStrategy implements QueryStrategy<Expression<Comparable>, Predicate> {
+
+		private final Root<?> root;
+		private final CriteriaBuilder cb;
+		private final boolean inclusiveComparison;
+
+		CriteriaQueryStrategy(Root<?> root, CriteriaBuilder cb, boolean inclusiveComparison) {
+
+			this.root = root;
+			this.cb = cb;
+			this.inclusiveComparison = inclusiveComparison;
+		}
+
+		@Override
+		public Expression<Comparable> createExpression(String property) {
+			return root.get(property);
+		}
+
+		@Override
+		public Predicate compare(Order order, Expression<Comparable> propertyExpression, Object value) {
+			return order.isAscending() ? cb.greaterThan(propertyExpression, (Comparable) value)
+					: cb.lessThan(propertyExpression, (Comparable) value);
+		}
+
+		@Override
+		public Predicate compareInclusive(Order order, Expression<Comparable> propertyExpression, Object value) {
+
+			if (!inclusiveComparison) {
+				return null;
+			}
+
+			return order.isAscending() ? cb.greaterThanOrEqualTo(propertyExpression, (Comparable) value)
+					: cb.lessThanOrEqualTo(propertyExpression, (Comparable) value);
+		}
+
+		@Override
+		public Predicate compare(Expression<Comparable> propertyExpression, Object value) {
+			return value == null ? cb.isNull(propertyExpression) : cb.equal(propertyExpression, value);
+		}
+
+		@Override
+		public Predicate and(List<Predicate> intermediate) {
+			return cb.and(intermediate.toArray(new Predicate[0]));
+		}
+
+		@Override
+		public Predicate or(List<Predicate> intermediate) {
+			return cb.or(intermediate.toArray(new Predicate[0]));
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.Query;
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.jpa.model.Person;
+import org.springframework.data.jpa.repository.query.QueryParameterSetter.QueryMetadata;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.query.ParametersSource;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+
+/**
+ * Benchmarks for binding method arguments to a prepared {@link Query}. Run with {@code -prof gc} to observe allocations
+ * per bind operation.
+ *
+ * @author agent
+ */
+@Microbenchmark
+@Fork(1)
+@Warmup(time = 2, iterations = 3)
+@Measurement(time = 2)
+@Timeout(time = 2)
+public class ParameterBinderTests {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		EntityManagerFactory entityManagerFactory;
+		EntityManager entityManager;
+
+		Binding positional;
+		Binding named;
+
+		@Setup(Level.Iteration)
+		public void doSetup() throws Exception {
+
+			Map<String, String> properties = new HashMap<>();
+			properties.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:test");
+			properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+			properties.put("hibernate.hbm2ddl.auto", "update");
+
+			entityManagerFactory = Persistence.createEntityManagerFactory("benchmark", properties);
+			entityManager = entityManagerFactory.createEntityManager();
+
+			positional = new Binding(entityManager,
+					"SELECT p FROM org.springframework.data.jpa.model.Person p WHERE p.firstname = ?1 AND p.lastname = ?2",
+					BindingRepository.class.getMethod("findPositional", String.class, String.class));
+
+			named = new Binding(entityManager,
+					"SELECT p FROM org.springframework.data.jpa.model.Person p WHERE p.firstname = :firstname AND p.lastname = :lastname",
+					BindingRepository.class.getMethod("findNamed", String.class, String.class));
+		}
+
+		@TearDown(Level.Iteration)
+		public void doTearDown() {
+
+			entityManager.close();
+			entityManagerFactory.close();
+		}
+	}
+
+	@Benchmark
+	public Query bindPositionalParameters(BenchmarkParameters parameters) {
+		return parameters.positional.bind();
+	}
+
+	@Benchmark
+	public Query bindNamedParameters(BenchmarkParameters parameters) {
+		return parameters.named.bind();
+	}
+
+	static class Binding {
+
+		private final ParameterBinder binder;
+		private final Query query;
+		private final QueryMetadata metadata;
+		private final JpaParametersParameterAccessor accessor;
+
+		Binding(EntityManager entityManager, String queryString, Method method) {
+
+			JpaParameters parameters = new JpaParameters(ParametersSource.of(method));
+			ValueExpressionDelegate delegate = ValueExpressionDelegate.create();
+
+			this.binder = ParameterBinderFactory.createQueryAwareBinder(parameters, new StringQuery(queryString, false),
+					delegate, delegate.createValueContextProvider(parameters));
+			this.query = entityManager.createQuery(queryString);
+			this.metadata = new QueryMetadata(query);
+			this.accessor = new JpaParametersParameterAccessor(parameters, new Object[] { "first", "last" });
+		}
+
+		Query bind() {
+			return binder.bind(query, metadata, accessor);
+		}
+	}
+
+	interface BindingRepository {
+
+		List<Person> findPositional(String firstname, String lastname);
+
+		List<Person> findNamed(@Param("firstname") String firstname, @Param("lastname") String lastname);
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.Query;
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.PersonRepository;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+/**
+ * Benchmarks for concurrent creation of derived queries from cached criteria queries. Each benchmark thread uses its
+ * own {@link EntityManager} while sharing the {@link PartTreeJpaQuery} to measure how query creation scales with the
+ * number of threads.
+ *
+ * @author agent
+ */
+@Microbenchmark
+@Fork(1)
+@Warmup(time = 2, iterations = 3)
+@Measurement(time = 2)
+@Timeout(time = 2)
+public class PartTreeQueryConcurrencyTests {
+
+	private static final ThreadLocal<EntityManager> CURRENT_ENTITY_MANAGER = new ThreadLocal<>();
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		EntityManagerFactory entityManagerFactory;
+		PartTreeJpaQuery query;
+		JpaQueryMethod queryMethod;
+
+		@Setup(Level.Trial)
+		public void doSetup() throws Exception {
+
+			Map<String, String> properties = new HashMap<>();
+			properties.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:concurrency");
+			properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+			properties.put("hibernate.hbm2ddl.auto", "create-drop");
+
+			entityManagerFactory = Persistence.createEntityManagerFactory("benchmark", properties);
+
+			EntityManager bootstrap = entityManagerFactory.createEntityManager();
+			EntityManager entityManager = threadBoundEntityManager();
+
+			CURRENT_ENTITY_MANAGER.set(bootstrap);
+
+			try {
+
+				Method method = PersonRepository.class.getMethod("findAllByFirstname", String.class);
+				queryMethod = new JpaQueryMethod(method, new DefaultRepositoryMetadata(PersonRepository.class),
+						new SpelAwareProxyProjectionFactory(), PersistenceProvider.fromEntityManager(bootstrap));
+				query = new PartTreeJpaQuery(queryMethod, entityManager);
+			} finally {
+				CURRENT_ENTITY_MANAGER.remove();
+				bootstrap.close();
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void doTearDown() {
+			entityManagerFactory.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadParameters {
+
+		EntityManager entityManager;
+
+		@Setup(Level.Trial)
+		public void doSetup(BenchmarkParameters parameters) {
+
+			entityManager = parameters.entityManagerFactory.createEntityManager();
+			CURRENT_ENTITY_MANAGER.set(entityManager);
+		}
+
+		@TearDown(Level.Trial)
+		public void doTearDown() {
+
+			CURRENT_ENTITY_MANAGER.remove();
+			entityManager.close();
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Query createQuerySingleThread(BenchmarkParameters parameters, ThreadParameters thread) {
+		return createQuery(parameters);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Query createQueryFourThreads(BenchmarkParameters parameters, ThreadParameters thread) {
+		return createQuery(parameters);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Query createQueryMaxThreads(BenchmarkParameters parameters, ThreadParameters thread) {
+		return createQuery(parameters);
+	}
+
+	private static Query createQuery(BenchmarkParameters parameters) {
+		return parameters.query.createQuery(
+				new JpaParametersParameterAccessor(parameters.queryMethod.getParameters(), new Object[] { "first" }));
+	}
+
+	/**
+	 * Creates an {@link EntityManager} routing all calls to the {@link EntityManager} bound to the current thread.
+	 */
+	private static EntityManager threadBoundEntityManager() {
+
+		return (EntityManager) Proxy.newProxyInstance(PartTreeQueryConcurrencyTests.class.getClassLoader(),
+				new Class<?>[] { EntityManager.class }, (proxy, method, args) -> {
+
+					try {
+						return method.invoke(CURRENT_ENTITY_MANAGER.get(), args);
+					} catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+				});
+	}
+}
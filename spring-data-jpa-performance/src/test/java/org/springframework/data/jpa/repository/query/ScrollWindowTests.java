@@ -0,0 +1,141 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.ScrollPosition.Direction;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.model.Person;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaMetamodelEntityInformation;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+
+/**
+ * Benchmarks for keyset {@link Window} creation and {@link ScrollPosition} extraction using precompiled keyset
+ * extractors compared to per-element bean wrapper introspection.
+ *
+ * @author agent
+ */
+@Microbenchmark
+@Fork(1)
+@Warmup(time = 2, iterations = 3)
+@Measurement(time = 2)
+@Timeout(time = 2)
+public class ScrollWindowTests {
+
+	private static final int PERSONS = 1_000;
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		EntityManagerFactory entityManagerFactory;
+		JpaEntityInformation<Person, ?> entityInformation;
+
+		Sort sort = Sort.by("lastname", "firstname");
+		List<Person> result = new ArrayList<>(PERSONS + 1);
+
+		@Setup(Level.Trial)
+		public void doSetup() {
+
+			Map<String, String> properties = new HashMap<>();
+			properties.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:window");
+			properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+
+			entityManagerFactory = Persistence.createEntityManagerFactory("benchmark", properties);
+			entityInformation = new JpaMetamodelEntityInformation<>(Person.class, entityManagerFactory.getMetamodel(),
+					entityManagerFactory.getPersistenceUnitUtil());
+
+			for (int i = 0; i <= PERSONS; i++) {
+
+				Person person = new Person("first-" + (i % 100), "last-" + (i % 10));
+				person.setId(i);
+				result.add(person);
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void doTearDown() {
+			entityManagerFactory.close();
+		}
+	}
+
+	@Benchmark
+	public ScrollPosition windowLastPosition(BenchmarkParameters parameters) {
+
+		Window<Person> window = createWindow(parameters);
+		return window.positionAt(window.size() - 1);
+	}
+
+	@Benchmark
+	public void windowAllPositions(BenchmarkParameters parameters, Blackhole blackhole) {
+
+		Window<Person> window = createWindow(parameters);
+
+		for (int i = 0; i < window.size(); i++) {
+			blackhole.consume(window.positionAt(i));
+		}
+	}
+
+	@Benchmark
+	public void beanWrapperAllPositions(BenchmarkParameters parameters, Blackhole blackhole) {
+
+		for (int i = 0; i < PERSONS; i++) {
+
+			Person person = parameters.result.get(i);
+			List<String> paths = parameters.sort.stream().map(Order::getProperty).toList();
+			BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(person);
+
+			Map<String, Object> keys = new LinkedHashMap<>();
+			keys.put("id", parameters.entityInformation.getId(person));
+
+			for (String path : paths) {
+				keys.put(path, wrapper.getPropertyValue(path));
+			}
+
+			blackhole.consume(ScrollPosition.of(keys, Direction.FORWARD));
+		}
+	}
+
+	private static Window<Person> createWindow(BenchmarkParameters parameters) {
+		return ScrollDelegate.createWindow(parameters.sort, PERSONS, Direction.FORWARD, parameters.entityInformation,
+				parameters.result);
+	}
+}
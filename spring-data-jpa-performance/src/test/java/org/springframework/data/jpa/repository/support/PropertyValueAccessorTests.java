@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import jmh.mbr.junit5.Microbenchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.jpa.model.Person;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+
+/**
+ * Benchmarks comparing {@link PropertyValueAccessor} with per-call {@link DirectFieldAccessFallbackBeanWrapper} access
+ * as used by {@link JpaMetamodelEntityInformation#isNew(Object)} and {@link JpaMetamodelEntityInformation#getId(Object)}.
+ *
+ * @author agent
+ */
+@Microbenchmark
+@Fork(1)
+@Warmup(time = 2, iterations = 3)
+@Measurement(time = 2)
+@Timeout(time = 2)
+public class PropertyValueAccessorTests {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		Person person;
+		PropertyValueAccessor getterAccessor;
+		PropertyValueAccessor primitiveGetterAccessor;
+
+		@Setup(Level.Iteration)
+		public void doSetup() {
+
+			person = new Person("first", "last");
+			getterAccessor = PropertyValueAccessor.of(Person.class, "firstname");
+			primitiveGetterAccessor = PropertyValueAccessor.of(Person.class, "age");
+		}
+	}
+
+	@Benchmark
+	public Object accessorGetter(BenchmarkParameters parameters) {
+		return parameters.getterAccessor.getValue(parameters.person);
+	}
+
+	@Benchmark
+	public Object accessorPrimitiveGetter(BenchmarkParameters parameters) {
+		return parameters.primitiveGetterAccessor.getValue(parameters.person);
+	}
+
+	@Benchmark
+	public Object beanWrapperGetter(BenchmarkParameters parameters) {
+		return new DirectFieldAccessFallbackBeanWrapper(parameters.person).getPropertyValue("firstname");
+	}
+
+	@Benchmark
+	public Object beanWrapperPrimitiveGetter(BenchmarkParameters parameters) {
+		return new DirectFieldAccessFallbackBeanWrapper(parameters.person).getPropertyValue("age");
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Metamodel;
+import jmh.mbr.junit5.Microbenchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.data.jpa.model.SyntheticDomain;
+
+/**
+ * Benchmarks for {@link JpaMetamodel} lookups and {@link JpaMetamodelMappingContext} initialization against a large
+ * {@link SyntheticDomain synthetic domain model}.
+ *
+ * @author agent
+ */
+@Microbenchmark
+@Fork(1)
+@Warmup(time = 2, iterations = 3)
+@Measurement(time = 2)
+@Timeout(time = 2)
+public class JpaMetamodelTests {
+
+	private static final String[] PROPERTIES = { "id", "name", "description", "rank", "active", "address", "children" };
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkParameters {
+
+		@Param({ "100", "500" }) int entities;
+
+		SyntheticDomain domain;
+		EntityManagerFactory entityManagerFactory;
+		Metamodel metamodel;
+
+		@Setup(Level.Trial)
+		public void doSetup() {
+
+			domain = SyntheticDomain.generate(entities);
+			entityManagerFactory = domain.createEntityManagerFactory("metamodel");
+			metamodel = entityManagerFactory.getMetamodel();
+		}
+
+		@TearDown(Level.Trial)
+		public void doTearDown() {
+
+			JpaMetamodel.clear();
+			entityManagerFactory.close();
+		}
+	}
+
+	@Benchmark
+	public JpaMetamodelMappingContext initializeMappingContext(BenchmarkParameters parameters) {
+
+		JpaMetamodel.clear();
+
+		JpaMetamodelMappingContext context = new JpaMetamodelMappingContext(Set.of(parameters.metamodel));
+		context.setInitialEntitySet(new HashSet<>(parameters.domain.getEntities()));
+		context.afterPropertiesSet();
+
+		return context;
+	}
+
+	@Benchmark
+	public void propertyLookups(BenchmarkParameters parameters, Blackhole blackhole) {
+
+		JpaMetamodel metamodel = JpaMetamodel.of(parameters.metamodel);
+
+		for (Class<?> entity : parameters.domain.getEntities()) {
+
+			blackhole.consume(metamodel.isMappedType(entity));
+
+			for (String property : PROPERTIES) {
+				blackhole.consume(metamodel.isSingleIdAttribute(entity, property, Long.class));
+			}
+		}
+	}
+}
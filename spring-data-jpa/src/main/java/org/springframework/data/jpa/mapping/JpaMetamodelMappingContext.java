@@ -18,7 +18,11 @@ package org.springframework.data.jpa.mapping;
 import jakarta.persistence.metamodel.ManagedType;
 import jakarta.persistence.metamodel.Metamodel;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.springframework.data.jpa.provider.PersistenceProvider;
@@ -28,6 +32,7 @@ import org.springframework.data.mapping.context.AbstractMappingContext;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.Property;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -97,16 +102,46 @@ public class JpaMetamodelMappingContext
 
 	/**
 	 * A wrapper for a set of JPA {@link Metamodel} instances to simplify lookups of {@link JpaMetamodel} instances and
-	 * managed type checks.
+	 * managed type checks. Managed types are indexed once on first lookup. Types not contained in the index are looked up
+	 * through {@link Metamodel#managedType(Class)} at most once.
 	 *
 	 * @author Oliver Gierke
 	 */
 	private static class Metamodels {
 
 		private final Set<Metamodel> metamodels;
+		private final Lazy<Map<Class<?>, Metamodel>> index;
+		private final Map<Class<?>, Optional<Metamodel>> lookups = new ConcurrentHashMap<>();
 
 		private Metamodels(Set<Metamodel> metamodels) {
+
 			this.metamodels = metamodels;
+			this.index = Lazy.of(() -> index(metamodels));
+		}
+
+		/**
+		 * Indexes all managed types (entities, embeddables and mapped superclasses) by their Java type. Types managed by
+		 * multiple {@link Metamodel} instances are associated with the first one.
+		 *
+		 * @param metamodels must not be {@literal null}.
+		 * @return
+		 */
+		private static Map<Class<?>, Metamodel> index(Set<Metamodel> metamodels) {
+
+			Map<Class<?>, Metamodel> index = new HashMap<>();
+
+			for (Metamodel metamodel : metamodels) {
+				for (ManagedType<?> managedType : metamodel.getManagedTypes()) {
+
+					Class<?> javaType = managedType.getJavaType();
+
+					if (javaType != null) {
+						index.putIfAbsent(javaType, metamodel);
+					}
+				}
+			}
+
+			return Map.copyOf(index);
 		}
 
 		/**
@@ -170,25 +205,24 @@ public class JpaMetamodelMappingContext
 		@Nullable
 		private Metamodel getMetamodelFor(Class<?> type) {
 
+			Metamodel metamodel = index.get().get(type);
+
+			return metamodel != null ? metamodel : lookups.computeIfAbsent(type, this::lookup).orElse(null);
+		}
+
+		private Optional<Metamodel> lookup(Class<?> type) {
+
 			for (Metamodel model : metamodels) {
 
 				try {
 					model.managedType(type);
-					return model;
+					return Optional.of(model);
 				} catch (IllegalArgumentException o_O) {
-
-					// Fall back to inspect *all* managed types manually as Metamodel.managedType(…) only
-					// returns for entities, embeddables and managed superclasses.
-
-					for (ManagedType<?> managedType : model.getManagedTypes()) {
-						if (type.equals(managedType.getJavaType())) {
-							return model;
-						}
-					}
+					// not managed by this Metamodel
 				}
 			}
 
-			return null;
+			return Optional.empty();
 		}
 	}
 }
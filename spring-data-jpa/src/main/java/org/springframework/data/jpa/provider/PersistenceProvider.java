@@ -19,6 +19,7 @@ import static org.springframework.data.jpa.provider.JpaClassUtils.*;
 import static org.springframework.data.jpa.provider.PersistenceProvider.Constants.*;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Query;
 import jakarta.persistence.metamodel.IdentifiableType;
 import jakarta.persistence.metamodel.Metamodel;
@@ -35,6 +36,8 @@ import org.eclipse.persistence.jpa.JpaQuery;
 import org.eclipse.persistence.queries.ScrollableCursor;
 import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.proxy.HibernateProxy;
 import org.springframework.data.util.CloseableIterator;
 import org.springframework.lang.Nullable;
@@ -109,6 +112,32 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 			return "org.hibernate.comment";
 		}
 
+		@Override
+		public String getFetchSizeHintKey() {
+			return "org.hibernate.fetchSize";
+		}
+
+		@Override
+		public String getReadOnlyHintKey() {
+			return "org.hibernate.readOnly";
+		}
+
+		@Override
+		public boolean hasContextualRestrictions(EntityManagerFactory emf, @Nullable EntityManager em) {
+
+			if (emf.unwrap(SessionFactoryImplementor.class).getCurrentTenantIdentifierResolver() != null) {
+				return true;
+			}
+
+			if (em == null) {
+				return false;
+			}
+
+			SessionImplementor session = em.unwrap(SessionImplementor.class);
+
+			return session.getLoadQueryInfluencers().hasEnabledFilters() || session.getTenantIdentifier() != null;
+		}
+
 	},
 
 	/**
@@ -147,6 +176,16 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 		public String getCommentHintValue(String comment) {
 			return "/* " + comment + " */";
 		}
+
+		@Override
+		public String getFetchSizeHintKey() {
+			return "eclipselink.jdbc.fetch-size";
+		}
+
+		@Override
+		public String getReadOnlyHintKey() {
+			return "eclipselink.read-only";
+		}
 	},
 
 	/**
@@ -312,6 +351,44 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 		return true;
 	}
 
+	/**
+	 * Returns the query hint key to configure the JDBC fetch size or {@literal null} if the provider does not support
+	 * configuring the fetch size through query hints.
+	 *
+	 * @return the hint key, can be {@literal null}.
+	 * @since 3.4
+	 */
+	@Nullable
+	public String getFetchSizeHintKey() {
+		return null;
+	}
+
+	/**
+	 * Returns the query hint key to load entities in read-only mode or {@literal null} if the provider does not support
+	 * read-only queries through query hints.
+	 *
+	 * @return the hint key, can be {@literal null}.
+	 * @since 3.4
+	 */
+	@Nullable
+	public String getReadOnlyHintKey() {
+		return null;
+	}
+
+	/**
+	 * Returns whether queries are subject to restrictions bound to the current persistence context or thread, such as
+	 * enabled filters or tenant identifiers, that an {@link EntityManager} created on a different thread would not
+	 * apply.
+	 *
+	 * @param emf the {@link EntityManagerFactory} to create {@link EntityManager}s from.
+	 * @param em the {@link EntityManager} bound to the current thread, can be {@literal null}.
+	 * @return {@literal true} if queries must not be run using a different {@link EntityManager}.
+	 * @since 3.4
+	 */
+	public boolean hasContextualRestrictions(EntityManagerFactory emf, @Nullable EntityManager em) {
+		return false;
+	}
+
 	/**
 	 * @param type the entity type.
 	 * @return the set of identifier attributes used in a {@code @IdClass} for {@code type}. Empty when {@code type} does
@@ -387,8 +464,9 @@ public enum PersistenceProvider implements QueryExtractor, ProxyIdAccessor, Quer
 		HibernateScrollableResultsIterator(Query jpaQuery) {
 
 			org.hibernate.query.Query<Object[]> query = jpaQuery.unwrap(org.hibernate.query.Query.class);
-			this.scrollableResults = query.setReadOnly(TransactionSynchronizationManager.isCurrentTransactionReadOnly())//
-					.scroll(ScrollMode.FORWARD_ONLY);
+			boolean readOnly = query.isReadOnly() || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+			this.scrollableResults = query.setReadOnly(readOnly).scroll(ScrollMode.FORWARD_ONLY);
 		}
 
 		@Override
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to configure how query methods returning a {@link org.springframework.data.domain.Page} determine the
+ * total number of elements. Counts can be cached for a limited time, capped to avoid counting large results exactly
+ * and run concurrently to the content query.
+ *
+ * <pre class="code">
+ * &#64;CountOptions(cacheTtl = 30, cacheTtlUnit = TimeUnit.SECONDS, limit = 1000, concurrent = true)
+ * Page&lt;User&gt; findByLastname(String lastname, Pageable pageable);
+ * </pre>
+ *
+ * @author agent
+ * @since 3.4
+ */
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CountOptions {
+
+	/**
+	 * The time to live of cached counts. Counts are cached per distinct combination of method arguments that are bound
+	 * to the query and invalidated when a {@link Modifying modifying query} or a derived delete query of a repository
+	 * for the same entity type is executed. Invalidation takes effect immediately for the modifying transaction and
+	 * again on its completion. Changes made through other means, such as saving entities, become visible once the
+	 * cached count expires. Queries that use value expressions are not cached. Defaults to {@literal 0} to not cache
+	 * counts.
+	 *
+	 * @return
+	 */
+	long cacheTtl() default 0;
+
+	/**
+	 * The {@link TimeUnit} of {@link #cacheTtl()}. Defaults to {@link TimeUnit#MILLISECONDS}.
+	 *
+	 * @return
+	 */
+	TimeUnit cacheTtlUnit() default TimeUnit.MILLISECONDS;
+
+	/**
+	 * The maximum number of distinct argument combinations to cache counts for. Least recently used counts are evicted
+	 * first.
+	 *
+	 * @return
+	 */
+	int cacheSize() default 256;
+
+	/**
+	 * The number of elements up to which the total is counted exactly. If the query yields more elements than the limit
+	 * (or than the requested page covers, whichever is greater), the count query is not executed and the total is
+	 * reported as one element beyond that position so that the page reports a next page. The presence of further
+	 * elements is detected by fetching a single row of the query at that position. Defaults to {@literal 0} to always
+	 * count exactly.
+	 *
+	 * @return
+	 */
+	int limit() default 0;
+
+	/**
+	 * Whether to run the count query concurrently to the content query. The count runs on a separate thread (a virtual
+	 * thread on Java 21 and newer) using a separate {@link jakarta.persistence.EntityManager} and therefore a separate
+	 * connection within a new read-only transaction. The count query is started before the content query and thus also
+	 * runs if the total could be inferred from the page content.
+	 * <p>
+	 * Counting falls back to sequential execution if the repository does not use a shared
+	 * {@link jakarta.persistence.EntityManager} that can be rebound to a separate one, if the caller participates in a
+	 * read-write transaction whose changes a separate connection would not see, if a resource-local transaction cannot be
+	 * started for the separate {@link jakarta.persistence.EntityManager}, or if the query uses value
+	 * expressions whose evaluation may depend on the calling thread. With Hibernate, counts also run sequentially if
+	 * the caller's session has enabled filters or a tenant identifier, or if a tenant identifier resolver is
+	 * configured, as a separate {@link jakarta.persistence.EntityManager} may not apply the same restrictions. Other
+	 * persistence providers do not detect such restrictions. The number of concurrent counts is bounded by the number
+	 * of available processors, further counts run sequentially. A count that does not complete within ten seconds
+	 * after the content query is repeated on the calling thread while the concurrent count query is cancelled through
+	 * the timeout of its transaction. Defaults to {@literal false}.
+	 *
+	 * @return
+	 */
+	boolean concurrent() default false;
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Interface to allow saving large numbers of entities in batches, bounding the size of the persistence context. Add it
+ * to a repository interface next to {@link JpaRepository} to opt in.
+ *
+ * @author agent
+ * @since 3.4
+ */
+public interface JpaBatchExecutor<T> {
+
+	/**
+	 * Saves all given entities in batches of {@code batchSize}. Changes are flushed and the persistence context is
+	 * cleared after each batch so that the number of managed entities does not grow with the number of entities to save.
+	 * Entities are consumed lazily from the given {@link Iterable} and not retained, making this method suitable for
+	 * bulk imports. Consider configuring JDBC batching of your persistence provider (e.g. {@code hibernate.jdbc.batch_size})
+	 * to match the given batch size.
+	 * <p>
+	 * Clearing the persistence context detaches all managed entities, including ones that were loaded before calling
+	 * this method.
+	 *
+	 * @param entities entities to be saved. Must not be {@literal null}.
+	 * @param batchSize number of entities to save before flushing and clearing the persistence context. Must be greater
+	 *          than zero.
+	 * @return the number of saved entities.
+	 * @since 3.4
+	 */
+	<S extends T> long saveAllInBatches(Iterable<S> entities, int batchSize);
+
+	/**
+	 * Persists all given entities in batches of {@code batchSize} assuming all entities are new. Unlike
+	 * {@link #saveAllInBatches(Iterable, int)}, entities are not inspected whether they are new and are never merged.
+	 * Changes are flushed and the persistence context is cleared after each batch.
+	 * <p>
+	 * Clearing the persistence context detaches all managed entities, including ones that were loaded before calling
+	 * this method.
+	 *
+	 * @param entities new entities to be persisted. Must not be {@literal null}.
+	 * @param batchSize number of entities to persist before flushing and clearing the persistence context. Must be
+	 *          greater than zero.
+	 * @return the number of persisted entities.
+	 * @since 3.4
+	 * @see EntityManager#persist(Object)
+	 */
+	<S extends T> long persistAllInBatches(Iterable<S> entities, int batchSize);
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Interface to allow streaming of {@link Specification} results using keyset scrolling. Add it to a repository
+ * interface next to {@link JpaSpecificationExecutor} to opt in.
+ *
+ * @author agent
+ * @since 3.4
+ * @see JpaSpecificationExecutor
+ */
+public interface JpaSpecificationStreamExecutor<T> {
+
+	/**
+	 * Returns a {@link Stream} of all entities matching the given {@link Specification} ordered by {@code sort}. The
+	 * stream is backed by keyset scrolling: entities are fetched in windows of {@code pageSize} entities, each window
+	 * continuing after the last entity of the previous one. In contrast to a cursor-based stream, no database resources
+	 * are held open between windows. The identifier is appended to {@code sort} to guarantee a unique ordering.
+	 * <p>
+	 * Windows are fetched while consuming the stream, typically after this method has returned. Consume the stream
+	 * within a surrounding transaction to read all windows from the same persistence context.
+	 *
+	 * @param spec must not be {@literal null}.
+	 * @param sort must not be {@literal null}, use {@link Sort#unsorted()} to stream in identifier order.
+	 * @param pageSize the number of entities to fetch per window, must be greater than zero.
+	 * @return a lazily populated {@link Stream} of entities.
+	 * @see org.springframework.data.jpa.repository.query.KeysetScrollIterator
+	 */
+	default Stream<T> streamAll(Specification<T> spec, Sort sort, int pageSize) {
+		return streamAll(spec, sort, pageSize, false);
+	}
+
+	/**
+	 * Returns a {@link Stream} of all entities matching the given {@link Specification} ordered by {@code sort} that is
+	 * backed by keyset scrolling. Setting {@code clearBetweenWindows} clears the persistence context before fetching
+	 * each subsequent window so that entities of previous windows can be garbage collected. Clearing detaches all
+	 * managed entities and discards changes that have not been flushed. Clearing requires the stream to be consumed
+	 * within a transaction.
+	 *
+	 * @param spec must not be {@literal null}.
+	 * @param sort must not be {@literal null}, use {@link Sort#unsorted()} to stream in identifier order.
+	 * @param pageSize the number of entities to fetch per window, must be greater than zero.
+	 * @param clearBetweenWindows whether to clear the persistence context before fetching each subsequent window.
+	 * @return a lazily populated {@link Stream} of entities.
+	 * @see #streamAll(Specification, Sort, int)
+	 */
+	Stream<T> streamAll(Specification<T> spec, Sort sort, int pageSize, boolean clearBetweenWindows);
+}
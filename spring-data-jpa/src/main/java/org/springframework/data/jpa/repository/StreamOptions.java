@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to configure query methods returning a {@link java.util.stream.Stream}. Streamed results are read through
+ * a database cursor that is consumed while iterating, so fetch size, read-only loading and periodic clearing of the
+ * persistence context control how much memory a stream occupies regardless of the result size.
+ *
+ * <pre class="code">
+ * &#64;StreamOptions(fetchSize = 1000, readOnly = true, clearInterval = 1000)
+ * Stream&lt;User&gt; streamAllBy();
+ * </pre>
+ *
+ * @author agent
+ * @since 3.4
+ */
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StreamOptions {
+
+	/**
+	 * The number of rows to fetch from the database per round trip. Applied as provider-specific query hint if the
+	 * persistence provider supports it. Defaults to {@literal 0} to use the driver default.
+	 *
+	 * @return
+	 */
+	int fetchSize() default 0;
+
+	/**
+	 * Whether to load entities in read-only mode so that the persistence provider does not retain state for dirty
+	 * checking. Applied as provider-specific query hint if the persistence provider supports it.
+	 *
+	 * @return
+	 */
+	boolean readOnly() default false;
+
+	/**
+	 * The number of consumed elements after which the persistence context is cleared to detach consumed entities. The
+	 * persistence context is cleared before fetching the next element so the element currently processed remains
+	 * managed. Clearing detaches all managed entities and discards changes that have not been flushed. Defaults to
+	 * {@literal 0} to not clear the persistence context.
+	 *
+	 * @return
+	 */
+	int clearInterval() default 0;
+}
@@ -181,4 +181,34 @@ public @interface EnableJpaRepositories {
 	 * @return a single character used for escaping.
 	 */
 	char escapeCharacter() default '\\';
+
+	/**
+	 * Configures the maximum number of query metadata entries (one per rendered variant of a query, e.g. for each
+	 * {@link org.springframework.data.domain.Sort}) retained per query method.
+	 *
+	 * @return the maximum number of query metadata entries per query method.
+	 * @since 3.4
+	 */
+	int queryMetadataCacheSize() default 16;
+
+	/**
+	 * Configures the maximum number of sorted query strings retained for String-based queries using dynamic sorting. The
+	 * cache is shared across all query methods of a repository so that frequently sorted query methods can retain more
+	 * sort variants than rarely used ones.
+	 *
+	 * @return the maximum number of sorted query strings per repository.
+	 * @since 3.4
+	 */
+	int sortedQueryCacheSize() default 256;
+
+	/**
+	 * Configures the maximum number of identifiers or entities processed by a single statement when running bulk
+	 * operations such as {@code deleteAllById(…)} or {@code deleteAllByIdInBatch(…)}. Larger collections are split into
+	 * multiple statements to stay below {@code IN} list limits of the database. Identifier lists are padded to the next
+	 * power of two up to the batch size, so a power of two keeps all padded sizes aligned.
+	 *
+	 * @return the maximum number of identifiers or entities per statement.
+	 * @since 3.4
+	 */
+	int batchSize() default 512;
 }
@@ -46,6 +46,7 @@ import org.springframework.core.io.ResourceLoader;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.query.PrecomputedQueries;
 import org.springframework.data.jpa.repository.support.DefaultJpaContext;
 import org.springframework.data.jpa.repository.support.EntityManagerBeanDefinitionRegistrarPostProcessor;
 import org.springframework.data.jpa.repository.support.JpaEvaluationContextExtension;
@@ -56,6 +57,7 @@ import org.springframework.data.repository.config.RepositoryConfigurationExtensi
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.config.RepositoryRegistrationAotProcessor;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.orm.jpa.support.PersistenceAnnotationBeanPostProcessor;
 import org.springframework.util.ClassUtils;
@@ -82,7 +84,13 @@ public class JpaRepositoryConfigExtension extends RepositoryConfigurationExtensi
 	private static final String DEFAULT_TRANSACTION_MANAGER_BEAN_NAME = "transactionManager";
 	private static final String ENABLE_DEFAULT_TRANSACTIONS_ATTRIBUTE = "enableDefaultTransactions";
 	private static final String JPA_METAMODEL_CACHE_CLEANUP_CLASSNAME = "org.springframework.data.jpa.util.JpaMetamodelCacheCleanup";
+	private static final String PRECOMPUTED_QUERIES_CLEANUP_CLASSNAME = "org.springframework.data.jpa.repository.query.PrecomputedQueriesCleanup";
+	private static final String COUNT_CACHE_CLEANUP_CLASSNAME = "org.springframework.data.jpa.repository.query.CountCacheCleanup";
+	private static final String ENTITY_GRAPH_CACHE_CLEANUP_CLASSNAME = "org.springframework.data.jpa.repository.support.EntityGraphCacheCleanup";
 	private static final String ESCAPE_CHARACTER_PROPERTY = "escapeCharacter";
+	private static final String QUERY_METADATA_CACHE_SIZE_ATTRIBUTE = "queryMetadataCacheSize";
+	private static final String SORTED_QUERY_CACHE_SIZE_ATTRIBUTE = "sortedQueryCacheSize";
+	private static final String BATCH_SIZE_ATTRIBUTE = "batchSize";
 
 	private final Map<Object, String> entityManagerRefs = new LinkedHashMap<>();
 
@@ -146,6 +154,20 @@ public class JpaRepositoryConfigExtension extends RepositoryConfigurationExtensi
 
 		builder.addPropertyValue(ENABLE_DEFAULT_TRANSACTIONS_ATTRIBUTE,
 				attributes.getBoolean(ENABLE_DEFAULT_TRANSACTIONS_ATTRIBUTE));
+
+		if (attributes.containsKey(QUERY_METADATA_CACHE_SIZE_ATTRIBUTE)) {
+			builder.addPropertyValue(QUERY_METADATA_CACHE_SIZE_ATTRIBUTE,
+					attributes.getNumber(QUERY_METADATA_CACHE_SIZE_ATTRIBUTE).intValue());
+		}
+
+		if (attributes.containsKey(SORTED_QUERY_CACHE_SIZE_ATTRIBUTE)) {
+			builder.addPropertyValue(SORTED_QUERY_CACHE_SIZE_ATTRIBUTE,
+					attributes.getNumber(SORTED_QUERY_CACHE_SIZE_ATTRIBUTE).intValue());
+		}
+
+		if (attributes.containsKey(BATCH_SIZE_ATTRIBUTE)) {
+			builder.addPropertyValue(BATCH_SIZE_ATTRIBUTE, attributes.getNumber(BATCH_SIZE_ATTRIBUTE).intValue());
+		}
 	}
 
 	@Override
@@ -191,6 +213,15 @@ public class JpaRepositoryConfigExtension extends RepositoryConfigurationExtensi
 		registerIfNotAlreadyRegistered(() -> new RootBeanDefinition(JPA_METAMODEL_CACHE_CLEANUP_CLASSNAME), registry,
 				JPA_METAMODEL_CACHE_CLEANUP_CLASSNAME, source);
 
+		registerIfNotAlreadyRegistered(() -> new RootBeanDefinition(PRECOMPUTED_QUERIES_CLEANUP_CLASSNAME), registry,
+				PRECOMPUTED_QUERIES_CLEANUP_CLASSNAME, source);
+
+		registerIfNotAlreadyRegistered(() -> new RootBeanDefinition(ENTITY_GRAPH_CACHE_CLEANUP_CLASSNAME), registry,
+				ENTITY_GRAPH_CACHE_CLEANUP_CLASSNAME, source);
+
+		registerIfNotAlreadyRegistered(() -> new RootBeanDefinition(COUNT_CACHE_CLEANUP_CLASSNAME), registry,
+				COUNT_CACHE_CLEANUP_CLASSNAME, source);
+
 		// EvaluationContextExtension for JPA specific SpEL functions
 
 		registerIfNotAlreadyRegistered(() -> {
@@ -302,14 +333,33 @@ public class JpaRepositoryConfigExtension extends RepositoryConfigurationExtensi
 	/**
 	 * A {@link RepositoryRegistrationAotProcessor} implementation that maintains aot repository setup but skips domain
 	 * type inspection which is handled by the core framework support for
-	 * {@link org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes}.
+	 * {@link org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes}. Metadata of declared JPQL queries is
+	 * precomputed into a resource through {@link PrecomputedQueries} to avoid parsing these queries on startup.
 	 *
 	 * @since 3.0
 	 */
 	public static class JpaRepositoryRegistrationAotProcessor extends RepositoryRegistrationAotProcessor {
 
 		protected void contribute(AotRepositoryContext repositoryContext, GenerationContext generationContext) {
+
 			// don't register domain types nor annotations.
+
+			RepositoryInformation repositoryInformation = repositoryContext.getRepositoryInformation();
+
+			if (repositoryInformation == null) {
+				return;
+			}
+
+			String queries = PrecomputedQueries.render(repositoryInformation);
+
+			if (queries == null) {
+				return;
+			}
+
+			String location = PrecomputedQueries.getResourceLocation(repositoryInformation.getRepositoryInterface());
+
+			generationContext.getGeneratedFiles().addResourceFile(location, queries);
+			generationContext.getRuntimeHints().resources().registerPattern(location);
 		}
 	}
 }
@@ -23,6 +23,7 @@ import jakarta.persistence.Tuple;
 import jakarta.persistence.TupleElement;
 import jakarta.persistence.TypedQuery;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -34,6 +35,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.CountOptions;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.CollectionExecution;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.ModifyingExecution;
@@ -102,7 +104,7 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 			} else if (method.isSliceQuery()) {
 				return new SlicedExecution();
 			} else if (method.isPageQuery()) {
-				return new PagedExecution();
+				return createPagedExecution();
 			} else if (method.isModifyingQuery()) {
 				return null;
 			} else {
@@ -165,6 +167,34 @@ public abstract class AbstractJpaQuery implements RepositoryQuery {
 		return new JpaParametersParameterAccessor(method.getParameters(), values);
 	}
 
+	private PagedExecution createPagedExecution() {
+
+		CountOptions options = method.getCountOptions();
+
+		if (options == null) {
+			return new PagedExecution();
+		}
+
+		boolean boundToArguments = isCountBoundToArguments();
+		CountCache countCache = options.cacheTtl() > 0 && boundToArguments
+				? new CountCache(method.getEntityInformation().getJavaType(),
+						Duration.of(options.cacheTtl(), options.cacheTtlUnit().toChronoUnit()), options.cacheSize())
+				: null;
+
+		return new PagedExecution(countCache, options.limit(), options.concurrent() && boundToArguments);
+	}
+
+	/**
+	 * Returns whether the count of this query is determined by its bindable method arguments only and can therefore be
+	 * cached and computed on a different thread.
+	 *
+	 * @return {@literal true} by default.
+	 * @since 3.4
+	 */
+	boolean isCountBoundToArguments() {
+		return true;
+	}
+
 	protected JpaQueryExecution getExecution() {
 
 		JpaQueryExecution execution = this.execution.getNullable();
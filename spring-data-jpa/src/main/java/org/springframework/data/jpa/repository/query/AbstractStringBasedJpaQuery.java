@@ -19,6 +19,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -30,7 +31,6 @@ import org.springframework.data.repository.query.ValueExpressionDelegate;
 import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.StringUtils;
 
 /**
@@ -51,7 +51,9 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 	private final DeclaredQuery query;
 	private final Lazy<DeclaredQuery> countQuery;
 	private final ValueExpressionDelegate valueExpressionDelegate;
-	private final QueryParameterSetter.QueryMetadataCache metadataCache = new QueryParameterSetter.QueryMetadataCache();
+	private static final String COUNT_QUERY_METADATA_KEY = "countquery";
+
+	private final QueryParameterSetter.QueryMetadataCache metadataCache;
 	private final QueryRewriter queryRewriter;
 	private final QuerySortRewriter querySortRewriter;
 	private final Lazy<ParameterBinder> countParameterBinder;
@@ -71,12 +73,35 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 	public AbstractStringBasedJpaQuery(JpaQueryMethod method, EntityManager em, String queryString,
 			@Nullable String countQueryString, QueryRewriter queryRewriter,
 			ValueExpressionDelegate valueExpressionDelegate) {
+		this(method, em, queryString, countQueryString, queryRewriter, valueExpressionDelegate,
+				QueryCacheConfiguration.create());
+	}
+
+	/**
+	 * Creates a new {@link AbstractStringBasedJpaQuery} from the given {@link JpaQueryMethod}, {@link EntityManager} and
+	 * query {@link String}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param em must not be {@literal null}.
+	 * @param queryString must not be {@literal null}.
+	 * @param countQueryString must not be {@literal null}.
+	 * @param queryRewriter must not be {@literal null}.
+	 * @param valueExpressionDelegate must not be {@literal null}.
+	 * @param cacheConfiguration must not be {@literal null}.
+	 * @since 3.4
+	 */
+	public AbstractStringBasedJpaQuery(JpaQueryMethod method, EntityManager em, String queryString,
+			@Nullable String countQueryString, QueryRewriter queryRewriter, ValueExpressionDelegate valueExpressionDelegate,
+			QueryCacheConfiguration cacheConfiguration) {
 
 		super(method, em);
 
 		Assert.hasText(queryString, "Query string must not be null or empty");
 		Assert.notNull(valueExpressionDelegate, "ValueExpressionDelegate must not be null");
 		Assert.notNull(queryRewriter, "QueryRewriter must not be null");
+		Assert.notNull(cacheConfiguration, "QueryCacheConfiguration must not be null");
+
+		this.metadataCache = cacheConfiguration.createMetadataCache();
 
 		this.valueExpressionDelegate = valueExpressionDelegate;
 		this.valueExpressionContextProvider = valueExpressionDelegate.createValueContextProvider(method.getParameters());
@@ -102,7 +127,7 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 
 		JpaParameters parameters = method.getParameters();
 		if (parameters.hasPageableParameter() || parameters.hasSortParameter()) {
-			this.querySortRewriter = new CachingQuerySortRewriter();
+			this.querySortRewriter = new CachingQuerySortRewriter(cacheConfiguration.getSortedQueryCache());
 		} else {
 			this.querySortRewriter = NoOpQuerySortRewriter.INSTANCE;
 		}
@@ -121,10 +146,11 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 
 		Query query = createJpaQuery(sortedQueryString, sort, accessor.getPageable(), processor.getReturnedType());
 
-		QueryParameterSetter.QueryMetadata metadata = metadataCache.getMetadata(sortedQueryString, query);
+		// the sorted query String is derived from the query and the sort only so the sort is sufficient to identify the
+		// metadata. It is ok to reuse the binding contained in the ParameterBinder although we create a new query String
+		// because the parameters in the query do not change.
+		QueryParameterSetter.QueryMetadata metadata = metadataCache.getMetadata(sort, query);
 
-		// it is ok to reuse the binding contained in the ParameterBinder although we create a new query String because the
-		// parameters in the query do not change.
 		return parameterBinder.get().bindAndPrepare(query, metadata, accessor);
 	}
 
@@ -152,7 +178,7 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 				? em.createNativeQuery(queryString) //
 				: em.createQuery(queryString, Long.class);
 
-		QueryParameterSetter.QueryMetadata metadata = metadataCache.getMetadata(queryString, query);
+		QueryParameterSetter.QueryMetadata metadata = metadataCache.getMetadata(COUNT_QUERY_METADATA_KEY, query);
 
 		countParameterBinder.get().bind(metadata.withQuery(query), accessor, QueryParameterSetter.ErrorHandling.LENIENT);
 
@@ -173,6 +199,22 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 		return countQuery.get();
 	}
 
+	@Override
+	boolean isCountBoundToArguments() {
+		return !usesExpressions(query) && !usesExpressions(getCountQuery());
+	}
+
+	private static boolean usesExpressions(DeclaredQuery query) {
+
+		for (ParameterBinding binding : query.getParameterBindings()) {
+			if (binding.getOrigin().isExpression()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * Creates an appropriate JPA query from an {@link EntityManager} according to the current {@link AbstractJpaQuery}
 	 * type.
@@ -239,12 +281,17 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 	}
 
 	/**
-	 * Caching variant of {@link QuerySortRewriter}.
+	 * Caching variant of {@link QuerySortRewriter} using a {@link SortedQueryCache} that is potentially shared with other
+	 * query methods.
 	 */
 	class CachingQuerySortRewriter implements QuerySortRewriter {
 
-		private final ConcurrentLruCache<CachableQuery, String> queryCache = new ConcurrentLruCache<>(16,
-				AbstractStringBasedJpaQuery.this::applySorting);
+		private final SortedQueryCache queryCache;
+		private final Function<CachableQuery, String> renderer = AbstractStringBasedJpaQuery.this::applySorting;
+
+		CachingQuerySortRewriter(SortedQueryCache queryCache) {
+			this.queryCache = queryCache;
+		}
 
 		@Override
 		public String getSorted(DeclaredQuery query, Sort sort) {
@@ -253,13 +300,14 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 				return query.getQueryString();
 			}
 
-			return queryCache.get(new CachableQuery(query, sort));
+			return queryCache.getSorted(new CachableQuery(query, sort, renderer));
 		}
 	}
 
 	/**
-	 * Value object with optimized {@link Object#equals(Object)} to cache a query based on its query string and
-	 * {@link Sort sorting}.
+	 * Value object with optimized {@link Object#equals(Object)} to cache a query based on its query string, whether it is
+	 * a native query, and {@link Sort sorting}. The renderer used to compute the sorted query is not considered for
+	 * equality as queries with the same query string render the same sorted query.
 	 *
 	 * @since 3.2.3
 	 * @author Christoph Strobl
@@ -268,13 +316,26 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 
 		private final DeclaredQuery declaredQuery;
 		private final String queryString;
+		private final boolean nativeQuery;
 		private final Sort sort;
+		private final Function<CachableQuery, String> renderer;
 
-		CachableQuery(DeclaredQuery query, Sort sort) {
+		CachableQuery(DeclaredQuery query, Sort sort, Function<CachableQuery, String> renderer) {
 
 			this.declaredQuery = query;
 			this.queryString = query.getQueryString();
+			this.nativeQuery = query.isNativeQuery();
 			this.sort = sort;
+			this.renderer = renderer;
+		}
+
+		/**
+		 * Render the sorted query.
+		 *
+		 * @return the sorted query string.
+		 */
+		String render() {
+			return renderer.apply(this);
 		}
 
 		DeclaredQuery getDeclaredQuery() {
@@ -302,6 +363,9 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 
 			CachableQuery that = (CachableQuery) o;
 
+			if (nativeQuery != that.nativeQuery) {
+				return false;
+			}
 			if (!Objects.equals(queryString, that.queryString)) {
 				return false;
 			}
@@ -312,6 +376,7 @@ abstract class AbstractStringBasedJpaQuery extends AbstractJpaQuery {
 		public int hashCode() {
 
 			int result = queryString != null ? queryString.hashCode() : 0;
+			result = 31 * result + (nativeQuery ? 1 : 0);
 			result = 31 * result + (sort != null ? sort.hashCode() : 0);
 			return result;
 		}
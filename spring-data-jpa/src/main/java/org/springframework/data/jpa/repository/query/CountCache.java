@@ -0,0 +1,262 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Bounded cache of count query results for a single query method. Counts are cached per {@link Key} until their time
+ * to live expires or until a modifying query for a related entity type {@link #invalidate(Class) invalidates} them.
+ * <p>
+ * Invalidation is tracked through a generation counter per entity type. A modifying query advances the generation
+ * immediately and once more on completion of the surrounding transaction, so that counts computed concurrently from
+ * not yet committed or rolled back state are discarded. Within the modifying transaction, the cache is bypassed for
+ * the modified entity types. Generation counters are cleared when the application context is closed, counts cached
+ * before that are discarded.
+ *
+ * @author agent
+ * @since 3.4
+ */
+public class CountCache {
+
+	private static final Map<Class<?>, AtomicLong> GENERATIONS = new ConcurrentHashMap<>();
+	private static final Object MODIFIED_TYPES = new Object();
+
+	private final Class<?> domainType;
+	private final long timeToLive;
+	private final ConcurrentLruCache<Key, CachedCount> counts;
+
+	/**
+	 * Creates a new {@link CountCache}.
+	 *
+	 * @param domainType the entity type counted by the query, must not be {@literal null}.
+	 * @param timeToLive time to live of cached counts, must be positive.
+	 * @param capacity maximum number of cached counts.
+	 */
+	CountCache(Class<?> domainType, Duration timeToLive, int capacity) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+
+		this.domainType = domainType;
+		getGenerationCounter();
+		this.timeToLive = timeToLive.toNanos();
+		this.counts = new ConcurrentLruCache<>(capacity, key -> new CachedCount());
+	}
+
+	/**
+	 * Returns the cached count for the given {@link Key} or obtains and caches the count from {@code count}.
+	 *
+	 * @param key the cache key.
+	 * @param count the count callback.
+	 * @return the count.
+	 */
+	long get(Key key, LongSupplier count) {
+
+		if (isModifiedInTransaction(domainType)) {
+			return count.getAsLong();
+		}
+
+		AtomicLong counter = getGenerationCounter();
+		long generation = counter.get();
+		long now = System.nanoTime();
+		CachedCount cached = counts.get(key);
+		Snapshot snapshot = cached.snapshot;
+
+		// a different counter indicates that generations were cleared and invalidations may have been missed
+		if (snapshot != null && snapshot.counter() == counter && snapshot.generation() == generation
+				&& now - snapshot.expiresAt() < 0) {
+			return snapshot.count();
+		}
+
+		long result = count.getAsLong();
+		cached.snapshot = new Snapshot(result, counter, generation, now + timeToLive);
+
+		return result;
+	}
+
+	/**
+	 * Invalidates cached counts for the entity type of the given modifying {@link JpaQueryMethod}.
+	 *
+	 * @param method the modifying query method.
+	 * @see #invalidate(Class)
+	 */
+	static void invalidate(JpaQueryMethod method) {
+
+		if (!GENERATIONS.isEmpty()) {
+			invalidate(method.getEntityInformation().getJavaType());
+		}
+	}
+
+	/**
+	 * Invalidates cached counts for the given entity type, its super types and subtypes. Invalidation is repeated on
+	 * completion of the current transaction if transaction synchronization is active. Repository methods that modify
+	 * entities through bulk queries call this method to invalidate cached counts.
+	 *
+	 * @param domainType the modified entity type.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void invalidate(Class<?> domainType) {
+
+		if (GENERATIONS.isEmpty()) {
+			return;
+		}
+
+		advance(domainType);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		Set<Class<?>> modifiedTypes = (Set<Class<?>>) TransactionSynchronizationManager.getResource(MODIFIED_TYPES);
+
+		if (modifiedTypes == null) {
+
+			Set<Class<?>> types = new HashSet<>();
+
+			TransactionSynchronizationManager.bindResource(MODIFIED_TYPES, types);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+
+					TransactionSynchronizationManager.unbindResourceIfPossible(MODIFIED_TYPES);
+					types.forEach(CountCache::advance);
+				}
+			});
+
+			modifiedTypes = types;
+		}
+
+		modifiedTypes.add(domainType);
+	}
+
+	/**
+	 * Clears the generation counters of all entity types to release domain types of closed application contexts. Counts
+	 * cached before clearing are obtained again.
+	 */
+	static void clear() {
+		GENERATIONS.clear();
+	}
+
+	private AtomicLong getGenerationCounter() {
+		return GENERATIONS.computeIfAbsent(domainType, key -> new AtomicLong());
+	}
+
+	private static void advance(Class<?> domainType) {
+
+		GENERATIONS.forEach((type, generation) -> {
+			if (type.isAssignableFrom(domainType) || domainType.isAssignableFrom(type)) {
+				generation.incrementAndGet();
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static boolean isModifiedInTransaction(Class<?> domainType) {
+
+		Set<Class<?>> modifiedTypes = (Set<Class<?>>) TransactionSynchronizationManager.getResource(MODIFIED_TYPES);
+
+		if (modifiedTypes == null) {
+			return false;
+		}
+
+		for (Class<?> modifiedType : modifiedTypes) {
+			if (modifiedType.isAssignableFrom(domainType) || domainType.isAssignableFrom(modifiedType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Cache key consisting of the values bound to the count query.
+	 */
+	static final class Key {
+
+		private final Object[] values;
+
+		private Key(Object[] values) {
+			this.values = values;
+		}
+
+		/**
+		 * Creates a {@link Key} from the bindable values of the given {@link JpaParametersParameterAccessor}.
+		 *
+		 * @param accessor must not be {@literal null}.
+		 * @param discriminator additional value distinguishing counts for the same arguments, can be {@literal null}.
+		 * @return the cache key.
+		 */
+		static Key of(JpaParametersParameterAccessor accessor, @Nullable Object discriminator) {
+
+			int bindableParameters = accessor.getParameters().getBindableParameters().getNumberOfParameters();
+			Object[] values = new Object[bindableParameters + 1];
+
+			for (int i = 0; i < bindableParameters; i++) {
+				values[i] = accessor.getBindableValue(i);
+			}
+
+			values[bindableParameters] = discriminator;
+
+			return new Key(values);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			return o instanceof Key that && Arrays.deepEquals(values, that.values);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.deepHashCode(values);
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.deepToString(values);
+		}
+	}
+
+	/**
+	 * Holder for the most recent count of a {@link Key}.
+	 */
+	private static class CachedCount {
+
+		volatile @Nullable Snapshot snapshot;
+	}
+
+	private record Snapshot(long count, AtomicLong counter, long generation, long expiresAt) {
+	}
+}
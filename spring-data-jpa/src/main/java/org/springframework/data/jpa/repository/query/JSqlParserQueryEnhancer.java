@@ -39,9 +39,6 @@ import net.sf.jsqlparser.statement.select.SetOperationList;
 import net.sf.jsqlparser.statement.select.Values;
 import net.sf.jsqlparser.statement.update.Update;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -49,11 +46,12 @@ import java.util.List;
 import java.util.Set;
 import java.util.StringJoiner;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.SerializationUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -76,7 +74,6 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 	private final String projection;
 	private final Set<String> joinAliases;
 	private final Set<String> selectAliases;
-	private final byte[] serialized;
 
 	/**
 	 * @param query the query we want to enhance. Must not be {@literal null}.
@@ -92,7 +89,6 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 		this.projection = detectProjection(this.statement);
 		this.selectAliases = Collections.unmodifiableSet(getSelectionAliases(this.statement));
 		this.joinAliases = Collections.unmodifiableSet(getJoinAliases(this.statement));
-		this.serialized = SerializationUtils.serialize(this.statement);
 	}
 
 	/**
@@ -310,7 +306,7 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 			return queryString;
 		}
 
-		return applySorting((Select) deserialize(this.serialized), sort, alias);
+		return applySorting(shallowCopy((Select) this.statement), sort, alias);
 	}
 
 	private String applySorting(Select selectStatement, Sort sort, @Nullable String alias) {
@@ -328,12 +324,12 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 			orderByElements.add(getOrderClause(joinAliases, selectAliases, alias, order));
 		}
 
-		if (CollectionUtils.isEmpty(selectBody.getOrderByElements())) {
-			selectBody.setOrderByElements(orderByElements);
-		} else {
-			selectBody.getOrderByElements().addAll(orderByElements);
+		if (!CollectionUtils.isEmpty(selectBody.getOrderByElements())) {
+			orderByElements.addAll(0, selectBody.getOrderByElements());
 		}
 
+		selectBody.setOrderByElements(orderByElements);
+
 		return selectStatement.toString();
 	}
 
@@ -346,15 +342,14 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 
 		Assert.hasText(this.query.getQueryString(), "OriginalQuery must not be null or empty");
 
-		Statement statement = (Statement) deserialize(this.serialized);
 		/*
 		  We only support count queries for {@link PlainSelect}.
 		 */
-		if (!(statement instanceof PlainSelect selectBody)) {
+		if (!(this.statement instanceof PlainSelect selectBody)) {
 			return this.query.getQueryString();
 		}
 
-		return createCountQueryFor(this.query, selectBody, countProjection);
+		return createCountQueryFor(this.query, shallowCopy(selectBody), countProjection);
 	}
 
 	private static String createCountQueryFor(DeclaredQuery query, PlainSelect selectBody,
@@ -401,12 +396,12 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 			orderByElements.add(getOrderClause(Collections.emptySet(), Collections.emptySet(), null, order));
 		}
 
-		if (setOperationListStatement.getOrderByElements() == null) {
-			setOperationListStatement.setOrderByElements(orderByElements);
-		} else {
-			setOperationListStatement.getOrderByElements().addAll(orderByElements);
+		if (setOperationListStatement.getOrderByElements() != null) {
+			orderByElements.addAll(0, setOperationListStatement.getOrderByElements());
 		}
 
+		setOperationListStatement.setOrderByElements(orderByElements);
+
 		return setOperationListStatement.toString();
 	}
 
@@ -504,19 +499,21 @@ public class JSqlParserQueryEnhancer implements QueryEnhancer {
 	}
 
 	/**
-	 * Deserialize the byte array into an object.
+	 * Create a shallow copy of the given top-level {@link Select}. Sorting and count query derivation only replace
+	 * top-level properties (order by elements, select items, distinct flag) of the copy and never modify nested elements
+	 * or collections in place. Nested structures can therefore be shared with the parsed statement which avoids a deep
+	 * copy of the entire statement for each derived query.
 	 *
-	 * @param bytes a serialized object
-	 * @return the result of deserializing the bytes
+	 * @param select the statement to copy.
+	 * @return the shallow copy.
 	 */
-	private static Object deserialize(byte[] bytes) {
-		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
-			return ois.readObject();
-		} catch (IOException ex) {
-			throw new IllegalArgumentException("Failed to deserialize object", ex);
-		} catch (ClassNotFoundException ex) {
-			throw new IllegalStateException("Failed to deserialize object type", ex);
-		}
+	@SuppressWarnings("unchecked")
+	private static <T extends Select> T shallowCopy(T select) {
+
+		T copy = (T) BeanUtils.instantiateClass(select.getClass());
+		ReflectionUtils.shallowCopyFieldState(select, copy);
+
+		return copy;
 	}
 
 }
@@ -19,18 +19,23 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.persistence.AttributeNode;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Query;
 import jakarta.persistence.Subgraph;
 
+import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.repository.support.MutableQueryHints;
 import org.springframework.data.jpa.repository.support.QueryHints;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -48,6 +53,14 @@ import org.springframework.util.StringUtils;
  */
 public class Jpa21Utils {
 
+	/**
+	 * Resolved entity graphs per {@link EntityManagerFactory}. Remembers whether a {@link JpaEntityGraph} refers to a named
+	 * entity graph so that the lookup of a named graph fails at most once for ad-hoc graphs. Entries are softly
+	 * referenced so that they remain cached for the lifetime of an application. Entries of closed factories are released
+	 * once the JVM runs short of memory.
+	 */
+	private static final Map<EntityManagerFactory, Map<EntityGraphKey, ResolvedEntityGraph>> ENTITY_GRAPHS = new ConcurrentReferenceHashMap<>();
+
 	private static final @Nullable Method GET_ENTITY_GRAPH_METHOD;
 	private static final boolean JPA21_AVAILABLE = ClassUtils.isPresent("jakarta.persistence.NamedEntityGraph",
 			Jpa21Utils.class.getClassLoader());
@@ -105,12 +118,37 @@ public class Jpa21Utils {
 		Assert.isTrue(GET_ENTITY_GRAPH_METHOD != null,
 				"It seems that you have the JPA 2.1 API but a JPA 2.0 implementation on the classpath");
 
+		EntityManagerFactory emf = em.getEntityManagerFactory();
+
+		if (emf == null) {
+			return resolveFetchGraph(em, jpaEntityGraph, entityType).graph();
+		}
+
+		Map<EntityGraphKey, ResolvedEntityGraph> graphs = ENTITY_GRAPHS.computeIfAbsent(emf,
+				key -> new ConcurrentHashMap<>());
+		EntityGraphKey key = new EntityGraphKey(jpaEntityGraph, entityType);
+		ResolvedEntityGraph resolved = graphs.get(key);
+
+		if (resolved != null) {
+			return resolved.obtain(em, jpaEntityGraph, entityType);
+		}
+
+		resolved = resolveFetchGraph(em, jpaEntityGraph, entityType);
+		graphs.put(key, PersistenceProvider.HIBERNATE.equals(PersistenceProvider.fromEntityManager(em)) ? resolved
+				: new ResolvedEntityGraph(resolved.named(), null));
+
+		return resolved.graph();
+	}
+
+	private static ResolvedEntityGraph resolveFetchGraph(EntityManager em, JpaEntityGraph jpaEntityGraph,
+			Class<?> entityType) {
+
 		try {
 			// first check whether an entityGraph with that name is already registered.
-			return em.getEntityGraph(jpaEntityGraph.getName());
+			return new ResolvedEntityGraph(true, em.getEntityGraph(jpaEntityGraph.getName()));
 		} catch (Exception ex) {
 			// try to create and dynamically register the entityGraph
-			return createDynamicEntityGraph(em, jpaEntityGraph, entityType);
+			return new ResolvedEntityGraph(false, createDynamicEntityGraph(em, jpaEntityGraph, entityType));
 		}
 	}
 
@@ -256,4 +294,28 @@ public class Jpa21Utils {
 	private static Subgraph<?> getSubgraph(AttributeNode<?> node) {
 		return node.getSubgraphs().isEmpty() ? null : node.getSubgraphs().values().iterator().next();
 	}
+
+	private record EntityGraphKey(JpaEntityGraph entityGraph, Class<?> entityType) {
+	}
+
+	/**
+	 * Outcome of resolving a {@link JpaEntityGraph}.
+	 *
+	 * @param named whether the graph refers to a named entity graph.
+	 * @param graph the resolved graph. Retained in the cache only if the persistence provider allows sharing graphs
+	 *          across {@link EntityManager}s.
+	 */
+	private record ResolvedEntityGraph(boolean named, @Nullable EntityGraph<?> graph) {
+
+		@Nullable
+		EntityGraph<?> obtain(EntityManager em, JpaEntityGraph jpaEntityGraph, Class<?> entityType) {
+
+			if (graph != null) {
+				return graph;
+			}
+
+			return named ? em.getEntityGraph(jpaEntityGraph.getName())
+					: createDynamicEntityGraph(em, jpaEntityGraph, entityType);
+		}
+	}
 }
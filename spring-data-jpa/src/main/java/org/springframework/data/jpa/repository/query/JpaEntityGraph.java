@@ -17,6 +17,7 @@ package org.springframework.data.jpa.repository.query;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
@@ -106,6 +107,25 @@ public class JpaEntityGraph {
 		return !attributePaths.isEmpty();
 	}
 
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof JpaEntityGraph that)) {
+			return false;
+		}
+
+		return name.equals(that.name) && type == that.type && attributePaths.equals(that.attributePaths);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(name, type, attributePaths);
+	}
+
 	@Override
 	public String toString() {
 		return "JpaEntityGraph [name=" + name + ", type=" + type + ", attributePaths=" + attributePaths.toString() + "]";
@@ -16,22 +16,33 @@
 package org.springframework.data.jpa.repository.query;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.SpringProperties;
 import org.springframework.data.domain.Sort;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
 
 /**
  * Implementation of {@link QueryEnhancer} to enhance JPA queries using ANTLR parsers.
@@ -45,6 +56,23 @@ import org.springframework.util.Assert;
  */
 class JpaQueryEnhancer implements QueryEnhancer {
 
+	/**
+	 * Name of the Spring property to configure the maximum number of parsed queries retained across all repositories.
+	 */
+	static final String PARSED_QUERY_CACHE_SIZE_PROPERTY = "spring.data.jpa.query.parser.cache-size";
+
+	static final int DEFAULT_PARSED_QUERY_CACHE_SIZE = 256;
+
+	private static final Log LOG = LogFactory.getLog(JpaQueryEnhancer.class);
+
+	private static final ConcurrentLruCache<ParsedQueryKey, JpaQueryEnhancer> PARSED_QUERIES = new ConcurrentLruCache<>(
+			resolveParsedQueryCacheSize(SpringProperties.getProperty(PARSED_QUERY_CACHE_SIZE_PROPERTY)),
+			key -> key.dialect().parse(key.query()));
+
+	private static final Map<ParsedQueryKey, Boolean> LL_QUERIES = new ConcurrentReferenceHashMap<>();
+
+	private static final ParseStatistics STATISTICS = new ParseStatistics();
+
 	private final ParserRuleContext context;
 	private final ParsedQueryIntrospector introspector;
 	private final String projection;
@@ -65,19 +93,116 @@ class JpaQueryEnhancer implements QueryEnhancer {
 		this.projection = tokens.isEmpty() ? "" : new QueryRenderer.TokenRenderer(tokens).render();
 	}
 
-	static <P extends Parser> ParserRuleContext parse(String query, Function<CharStream, Lexer> lexerFactoryFunction,
-			Function<TokenStream, P> parserFactoryFunction, Function<P, ParserRuleContext> parseFunction) {
+	/**
+	 * Resolve the parsed query cache size from the value of {@link #PARSED_QUERY_CACHE_SIZE_PROPERTY}. Invalid values
+	 * are logged and fall back to {@link #DEFAULT_PARSED_QUERY_CACHE_SIZE} as the cache is initialized statically.
+	 *
+	 * @param size the configured value, can be {@literal null}.
+	 * @return the configured cache size or {@link #DEFAULT_PARSED_QUERY_CACHE_SIZE}.
+	 */
+	static int resolveParsedQueryCacheSize(@Nullable String size) {
+
+		if (!StringUtils.hasText(size)) {
+			return DEFAULT_PARSED_QUERY_CACHE_SIZE;
+		}
+
+		try {
+
+			int cacheSize = Integer.parseInt(size.trim());
+
+			if (cacheSize >= 0) {
+				return cacheSize;
+			}
+		} catch (NumberFormatException ignored) {}
+
+		LOG.warn("Invalid value '%s' for property '%s', falling back to default cache size %d".formatted(size,
+				PARSED_QUERY_CACHE_SIZE_PROPERTY, DEFAULT_PARSED_QUERY_CACHE_SIZE));
+
+		return DEFAULT_PARSED_QUERY_CACHE_SIZE;
+	}
+
+	/**
+	 * Obtain a {@link JpaQueryEnhancer} for the given {@code query} and {@link Dialect}. Parsed queries are retained in a
+	 * bounded cache shared across all repositories so that sort and count derivations visit an already parsed tree
+	 * instead of re-running lexer and parser for each new {@link Sort} combination. Cached instances are safe to share as
+	 * the parse tree is only read after introspection.
+	 *
+	 * @param dialect the parser dialect to use.
+	 * @param query the query string.
+	 * @return the cached or newly parsed {@link JpaQueryEnhancer}.
+	 * @throws BadJpqlGrammarException if the query cannot be parsed.
+	 */
+	static JpaQueryEnhancer getOrParse(Dialect dialect, String query) throws BadJpqlGrammarException {
+		return PARSED_QUERIES.get(new ParsedQueryKey(dialect, query));
+	}
+
+	/**
+	 * Remove all parsed queries from the shared cache.
+	 */
+	static void clearParsedQueryCache() {
+		PARSED_QUERIES.clear();
+	}
+
+	/**
+	 * Parse the given {@code query} using a two-stage strategy. The query is parsed first using {@link PredictionMode#SLL}
+	 * along with a {@link BailErrorStrategy} that is sufficient for the majority of queries. Only if SLL parsing fails,
+	 * parsing is retried with full {@link PredictionMode#LL} prediction and our error listeners to either obtain the parse
+	 * tree or report the actual syntax error. Queries that required LL prediction are remembered per {@link Dialect} to
+	 * skip the SLL attempt on subsequent parsing.
+	 *
+	 * @param dialect the dialect of the parser.
+	 * @param query the query to parse.
+	 * @param lexerFactoryFunction
+	 * @param parserFactoryFunction
+	 * @param parseFunction
+	 * @return the parse tree.
+	 * @throws BadJpqlGrammarException if the query is invalid.
+	 */
+	static <P extends Parser> ParserRuleContext parse(Dialect dialect, String query,
+			Function<CharStream, Lexer> lexerFactoryFunction, Function<TokenStream, P> parserFactoryFunction,
+			Function<P, ParserRuleContext> parseFunction) {
+
+		ParsedQueryKey key = new ParsedQueryKey(dialect, query);
 
 		Lexer lexer = lexerFactoryFunction.apply(CharStreams.fromString(query));
-		P parser = parserFactoryFunction.apply(new CommonTokenStream(lexer));
+		CommonTokenStream tokens = new CommonTokenStream(lexer);
+		P parser = parserFactoryFunction.apply(tokens);
 
 		configureParser(query, lexer, parser);
 
-		return parseFunction.apply(parser);
+		if (!LL_QUERIES.containsKey(key)) {
+
+			parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+			parser.setErrorHandler(new BailErrorStrategy());
+			parser.removeErrorListeners();
+
+			try {
+
+				ParserRuleContext context = parseFunction.apply(parser);
+				STATISTICS.sllParses.increment();
+				return context;
+			} catch (ParseCancellationException e) {
+
+				STATISTICS.llFallbacks.increment();
+
+				tokens.seek(0);
+				parser.reset();
+				configureParser(query, lexer, parser);
+			}
+		}
+
+		parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+
+		ParserRuleContext context = parseFunction.apply(parser);
+
+		STATISTICS.llParses.increment();
+		LL_QUERIES.put(key, Boolean.TRUE);
+
+		return context;
 	}
 
 	/**
-	 * Apply common configuration (SLL prediction for performance, our own error listeners).
+	 * Apply common configuration (default error strategy, our own error listeners).
 	 *
 	 * @param query
 	 * @param lexer
@@ -90,12 +215,19 @@ class JpaQueryEnhancer implements QueryEnhancer {
 		lexer.removeErrorListeners();
 		lexer.addErrorListener(errorListener);
 
-		parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+		parser.setErrorHandler(new DefaultErrorStrategy());
 
 		parser.removeErrorListeners();
 		parser.addErrorListener(errorListener);
 	}
 
+	/**
+	 * @return parser statistics reporting how many queries were parsed using SLL and LL prediction.
+	 */
+	static ParseStatistics getParseStatistics() {
+		return STATISTICS;
+	}
+
 	/**
 	 * Factory method to create a {@link JpaQueryEnhancer} for {@link DeclaredQuery} using JPQL grammar.
 	 *
@@ -106,7 +238,7 @@ class JpaQueryEnhancer implements QueryEnhancer {
 
 		Assert.notNull(query, "DeclaredQuery must not be null!");
 
-		return JpqlQueryParser.parseQuery(query.getQueryString());
+		return getOrParse(Dialect.JPQL, query.getQueryString());
 	}
 
 	/**
@@ -119,7 +251,7 @@ class JpaQueryEnhancer implements QueryEnhancer {
 
 		Assert.notNull(query, "DeclaredQuery must not be null!");
 
-		return HqlQueryParser.parseQuery(query.getQueryString());
+		return getOrParse(Dialect.HQL, query.getQueryString());
 	}
 
 	/**
@@ -133,7 +265,7 @@ class JpaQueryEnhancer implements QueryEnhancer {
 
 		Assert.notNull(query, "DeclaredQuery must not be null!");
 
-		return EqlQueryParser.parseQuery(query.getQueryString());
+		return getOrParse(Dialect.EQL, query.getQueryString());
 	}
 
 	/**
@@ -237,8 +369,8 @@ class JpaQueryEnhancer implements QueryEnhancer {
 	static class HqlQueryParser extends JpaQueryEnhancer {
 
 		private HqlQueryParser(String query) {
-			super(parse(query, HqlLexer::new, HqlParser::new, HqlParser::start), new HqlQueryIntrospector(),
-					HqlSortedQueryTransformer::new, HqlCountQueryTransformer::new);
+			super(parse(Dialect.HQL, query, HqlLexer::new, HqlParser::new, HqlParser::start),
+					new HqlQueryIntrospector(), HqlSortedQueryTransformer::new, HqlCountQueryTransformer::new);
 		}
 
 		/**
@@ -265,8 +397,8 @@ class JpaQueryEnhancer implements QueryEnhancer {
 	static class EqlQueryParser extends JpaQueryEnhancer {
 
 		private EqlQueryParser(String query) {
-			super(parse(query, EqlLexer::new, EqlParser::new, EqlParser::start), new EqlQueryIntrospector(),
-					EqlSortedQueryTransformer::new, EqlCountQueryTransformer::new);
+			super(parse(Dialect.EQL, query, EqlLexer::new, EqlParser::new, EqlParser::start),
+					new EqlQueryIntrospector(), EqlSortedQueryTransformer::new, EqlCountQueryTransformer::new);
 		}
 
 		/**
@@ -293,8 +425,8 @@ class JpaQueryEnhancer implements QueryEnhancer {
 	static class JpqlQueryParser extends JpaQueryEnhancer {
 
 		private JpqlQueryParser(String query) {
-			super(parse(query, JpqlLexer::new, JpqlParser::new, JpqlParser::start), new JpqlQueryIntrospector(),
-					JpqlSortedQueryTransformer::new, JpqlCountQueryTransformer::new);
+			super(parse(Dialect.JPQL, query, JpqlLexer::new, JpqlParser::new, JpqlParser::start),
+					new JpqlQueryIntrospector(), JpqlSortedQueryTransformer::new, JpqlCountQueryTransformer::new);
 		}
 
 		/**
@@ -308,4 +440,87 @@ class JpaQueryEnhancer implements QueryEnhancer {
 			return new JpqlQueryParser(query);
 		}
 	}
+
+	/**
+	 * Counters for the parse modes used by {@link JpaQueryEnhancer}.
+	 *
+	 * @since 3.4
+	 */
+	static class ParseStatistics {
+
+		private final LongAdder sllParses = new LongAdder();
+		private final LongAdder llParses = new LongAdder();
+		private final LongAdder llFallbacks = new LongAdder();
+
+		/**
+		 * @return number of queries successfully parsed using SLL prediction.
+		 */
+		long getSllParses() {
+			return sllParses.sum();
+		}
+
+		/**
+		 * @return number of queries successfully parsed using LL prediction.
+		 */
+		long getLlParses() {
+			return llParses.sum();
+		}
+
+		/**
+		 * @return number of SLL parse attempts that failed and were retried using LL prediction.
+		 */
+		long getLlFallbacks() {
+			return llFallbacks.sum();
+		}
+
+		@Override
+		public String toString() {
+			return "ParseStatistics[sll=%d, ll=%d, llFallbacks=%d]".formatted(getSllParses(), getLlParses(),
+					getLlFallbacks());
+		}
+	}
+
+	/**
+	 * Query dialects supported by {@link JpaQueryEnhancer}.
+	 *
+	 * @since 3.4
+	 */
+	enum Dialect {
+
+		JPQL {
+			@Override
+			JpaQueryEnhancer parse(String query) {
+				return JpqlQueryParser.parseQuery(query);
+			}
+		},
+
+		HQL {
+			@Override
+			JpaQueryEnhancer parse(String query) {
+				return HqlQueryParser.parseQuery(query);
+			}
+		},
+
+		EQL {
+			@Override
+			JpaQueryEnhancer parse(String query) {
+				return EqlQueryParser.parseQuery(query);
+			}
+		};
+
+		/**
+		 * Parse the given {@code query} bypassing the parsed query cache.
+		 *
+		 * @param query the query string.
+		 * @return a new {@link JpaQueryEnhancer}.
+		 * @throws BadJpqlGrammarException if the query cannot be parsed.
+		 */
+		abstract JpaQueryEnhancer parse(String query) throws BadJpqlGrammarException;
+	}
+
+	/**
+	 * Cache key for parsed queries.
+	 */
+	private record ParsedQueryKey(Dialect dialect, String query) {
+	}
 }
@@ -16,19 +16,28 @@
 package org.springframework.data.jpa.repository.query;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.Query;
 import jakarta.persistence.StoredProcedureQuery;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.ScrollPosition;
@@ -36,11 +45,20 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.StreamOptions;
 import org.springframework.data.repository.core.support.SurroundingTransactionDetectorMethodInterceptor;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.Lazy;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.EntityManagerProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
@@ -192,18 +210,234 @@ public abstract class JpaQueryExecution {
 
 	/**
 	 * Executes the {@link AbstractStringBasedJpaQuery} to return a {@link org.springframework.data.domain.Page} of
-	 * entities.
+	 * entities. The total can be obtained from a {@link CountCache}, capped to a count limit and counted concurrently to
+	 * the content query as configured through {@link org.springframework.data.jpa.repository.CountOptions}.
 	 */
 	static class PagedExecution extends JpaQueryExecution {
 
+		private static final int MAX_CONCURRENT_COUNTS = Runtime.getRuntime().availableProcessors();
+		private static final long COUNT_TIMEOUT_SECONDS = 10;
+		private static final Semaphore COUNT_PERMITS = new Semaphore(MAX_CONCURRENT_COUNTS);
+		private static final Lazy<Executor> COUNT_EXECUTOR = Lazy.of(PagedExecution::createCountExecutor);
+
+		private final @Nullable CountCache countCache;
+		private final int countLimit;
+		private final boolean concurrentCount;
+
+		PagedExecution() {
+			this(null, 0, false);
+		}
+
+		/**
+		 * Creates a new {@link PagedExecution}.
+		 *
+		 * @param countCache cache for count results, can be {@literal null} to not cache counts.
+		 * @param countLimit number of elements up to which to count exactly, {@literal 0} to always count exactly.
+		 * @param concurrentCount whether to run the count query concurrently using a separate {@link EntityManager}.
+		 * @since 3.4
+		 */
+		PagedExecution(@Nullable CountCache countCache, int countLimit, boolean concurrentCount) {
+
+			Assert.isTrue(countLimit >= 0, "Count limit must not be negative");
+
+			this.countCache = countCache;
+			this.countLimit = countLimit;
+			this.concurrentCount = concurrentCount;
+		}
+
 		@Override
-		@SuppressWarnings("unchecked")
 		protected Object doExecute(AbstractJpaQuery repositoryQuery, JpaParametersParameterAccessor accessor) {
 
-			Query query = repositoryQuery.createQuery(accessor);
+			CompletableFuture<Long> total = concurrentCount ? countConcurrently(repositoryQuery, accessor) : null;
+			List<?> content;
+
+			try {
+				content = repositoryQuery.createQuery(accessor).getResultList();
+			} catch (RuntimeException o_O) {
+
+				if (total != null) {
+					total.cancel(false);
+				}
+
+				throw o_O;
+			}
+
+			return PageableExecutionUtils.getPage(content, accessor.getPageable(),
+					() -> total != null ? join(total, repositoryQuery, accessor) : getTotal(repositoryQuery, accessor));
+		}
+
+		/**
+		 * Starts counting on a separate thread using a separate {@link EntityManager} if the query uses a shared
+		 * {@link EntityManager} and the caller does not participate in a read-write transaction whose changes the count
+		 * would not see. Counts run sequentially if the caller's queries are subject to restrictions that a separate
+		 * {@link EntityManager} would not apply, such as Hibernate filters or tenant identifiers, and if the number of
+		 * concurrently running counts is exhausted.
+		 *
+		 * @return the future total or {@literal null} if the count cannot run concurrently.
+		 */
+		@Nullable
+		private CompletableFuture<Long> countConcurrently(AbstractJpaQuery repositoryQuery,
+				JpaParametersParameterAccessor accessor) {
+
+			EntityManager em = repositoryQuery.getEntityManager();
+
+			if (!(em instanceof EntityManagerProxy) || accessor.getPageable().isUnpaged()
+					|| (TransactionSynchronizationManager.isActualTransactionActive()
+							&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+					|| hasContextualRestrictions(em.getEntityManagerFactory())) {
+				return null;
+			}
+
+			if (!COUNT_PERMITS.tryAcquire()) {
+				return null;
+			}
+
+			CompletableFuture<Long> total = new CompletableFuture<>();
+
+			try {
+				COUNT_EXECUTOR.get().execute(() -> {
+
+					try {
+						// skip counts that were given up on while waiting for execution
+						if (!total.isDone()) {
+							total.complete(countUsingSeparateEntityManager(em, repositoryQuery, accessor));
+						}
+					} catch (Throwable o_O) {
+						total.completeExceptionally(o_O);
+					} finally {
+						COUNT_PERMITS.release();
+					}
+				});
+			} catch (RuntimeException o_O) {
+
+				COUNT_PERMITS.release();
+				return null;
+			}
+
+			return total;
+		}
+
+		private static boolean hasContextualRestrictions(EntityManagerFactory emf) {
+
+			EntityManager bound = TransactionSynchronizationManager.getResource(emf) instanceof EntityManagerHolder holder
+					? holder.getEntityManager()
+					: null;
+
+			return PersistenceProvider.fromMetamodel(emf.getMetamodel()).hasContextualRestrictions(emf, bound);
+		}
+
+		/**
+		 * Obtains the total within a new read-only transaction whose {@link EntityManager} the shared
+		 * {@link EntityManager} picks up. The transaction timeout applies to the count query so that a count the caller
+		 * gave up on does not hold on to its connection.
+		 *
+		 * @return the total or {@literal null} if the shared {@link EntityManager} does not use the transactional one or
+		 *         the transaction cannot be started, e.g. for JTA {@link EntityManager}s.
+		 */
+		@Nullable
+		private Long countUsingSeparateEntityManager(EntityManager em, AbstractJpaQuery repositoryQuery,
+				JpaParametersParameterAccessor accessor) {
+
+			EntityManagerFactory emf = em.getEntityManagerFactory();
+
+			if (TransactionSynchronizationManager.hasResource(emf)) {
+				return null;
+			}
+
+			TransactionTemplate template = new TransactionTemplate(new JpaTransactionManager(emf));
+			template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+			template.setReadOnly(true);
+			template.setTimeout((int) COUNT_TIMEOUT_SECONDS);
+
+			try {
+				return template.execute(status -> {
+
+					EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(emf);
+
+					if (holder == null || ((EntityManagerProxy) em).getTargetEntityManager() != holder.getEntityManager()) {
+						return null;
+					}
+
+					return getTotal(repositoryQuery, accessor);
+				});
+			} catch (TransactionException | IllegalStateException o_O) {
+				return null;
+			}
+		}
+
+		private long join(CompletableFuture<Long> total, AbstractJpaQuery repositoryQuery,
+				JpaParametersParameterAccessor accessor) {
+
+			Long result;
+
+			try {
+				// count on the caller's connection if the concurrent count is stuck, e.g. waiting for a pooled connection
+				result = total.completeOnTimeout(null, COUNT_TIMEOUT_SECONDS, TimeUnit.SECONDS).join();
+			} catch (CompletionException o_O) {
+
+				if (o_O.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+
+				throw o_O;
+			}
+
+			return result != null ? result : getTotal(repositoryQuery, accessor);
+		}
+
+		private static Executor createCountExecutor() {
+
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("spring-data-jpa-count-");
+			executor.setDaemon(true);
+			executor.setConcurrencyLimit(MAX_CONCURRENT_COUNTS);
 
-			return PageableExecutionUtils.getPage(query.getResultList(), accessor.getPageable(),
-					() -> count(repositoryQuery, accessor));
+			if (Runtime.version().feature() >= 21) {
+				executor.setVirtualThreads(true);
+			}
+
+			return executor;
+		}
+
+		private long getTotal(AbstractJpaQuery repositoryQuery, JpaParametersParameterAccessor accessor) {
+
+			long position = getProbePosition(accessor.getPageable());
+
+			if (countCache == null) {
+				return estimate(repositoryQuery, accessor, position);
+			}
+
+			return countCache.get(CountCache.Key.of(accessor, position),
+					() -> estimate(repositoryQuery, accessor, position));
+		}
+
+		/**
+		 * Returns the position beyond which elements are not counted or {@literal -1} to count exactly.
+		 */
+		private long getProbePosition(Pageable pageable) {
+
+			if (countLimit == 0 || pageable.isUnpaged()) {
+				return -1;
+			}
+
+			long position = Math.max(countLimit, pageable.getOffset() + pageable.getPageSize());
+
+			return position <= Integer.MAX_VALUE ? position : -1;
+		}
+
+		private long estimate(AbstractJpaQuery repositoryQuery, JpaParametersParameterAccessor accessor, long position) {
+
+			if (position != -1) {
+
+				Query probe = repositoryQuery.createQuery(accessor);
+				probe.setFirstResult((int) position);
+				probe.setMaxResults(1);
+
+				if (!probe.getResultList().isEmpty()) {
+					return position + 1;
+				}
+			}
+
+			return count(repositoryQuery, accessor);
 		}
 
 		private long count(AbstractJpaQuery repositoryQuery, JpaParametersParameterAccessor accessor) {
@@ -266,6 +500,8 @@ public abstract class JpaQueryExecution {
 
 			int result = query.createQuery(accessor).executeUpdate();
 
+			CountCache.invalidate(query.getQueryMethod());
+
 			if (clear) {
 				em.clear();
 			}
@@ -299,6 +535,10 @@ public abstract class JpaQueryExecution {
 				em.remove(o);
 			}
 
+			if (!resultList.isEmpty()) {
+				CountCache.invalidate(jpaQuery.getQueryMethod());
+			}
+
 			return jpaQuery.getQueryMethod().isCollectionQuery() ? resultList : resultList.size();
 		}
 	}
@@ -382,6 +622,7 @@ public abstract class JpaQueryExecution {
 		private static final Method streamMethod = ReflectionUtils.findMethod(Query.class, "getResultStream");
 
 		@Override
+		@SuppressWarnings("unchecked")
 		protected Object doExecute(AbstractJpaQuery query, JpaParametersParameterAccessor accessor) {
 
 			if (!SurroundingTransactionDetectorMethodInterceptor.INSTANCE.isSurroundingTransactionActive()) {
@@ -389,17 +630,110 @@ public abstract class JpaQueryExecution {
 			}
 
 			Query jpaQuery = query.createQuery(accessor);
+			StreamOptions options = query.getQueryMethod().getStreamOptions();
+
+			if (options != null) {
+				applyStreamOptions(jpaQuery, options, PersistenceProvider.fromEntityManager(query.getEntityManager()));
+			}
+
+			Stream<Object> stream;
 
 			// JPA 2.2 on the classpath
 			if (streamMethod != null) {
-				return ReflectionUtils.invokeMethod(streamMethod, jpaQuery);
+				stream = (Stream<Object>) ReflectionUtils.invokeMethod(streamMethod, jpaQuery);
+			} else {
+
+				// Fall back to legacy stream execution
+				PersistenceProvider persistenceProvider = PersistenceProvider.fromEntityManager(query.getEntityManager());
+				CloseableIterator<Object> iter = persistenceProvider.executeQueryWithResultStream(jpaQuery);
+
+				stream = StreamUtils.createStreamFromIterator(iter);
+			}
+
+			if (options != null && options.clearInterval() > 0) {
+				return StreamUtils.createStreamFromIterator(
+						new ClearingIterator(stream, query.getEntityManager(), options.clearInterval()));
 			}
 
-			// Fall back to legacy stream execution
-			PersistenceProvider persistenceProvider = PersistenceProvider.fromEntityManager(query.getEntityManager());
-			CloseableIterator<Object> iter = persistenceProvider.executeQueryWithResultStream(jpaQuery);
+			return stream;
+		}
 
-			return StreamUtils.createStreamFromIterator(iter);
+		private static void applyStreamOptions(Query query, StreamOptions options, PersistenceProvider provider) {
+
+			String fetchSizeHintKey = provider.getFetchSizeHintKey();
+			if (options.fetchSize() > 0 && fetchSizeHintKey != null) {
+				query.setHint(fetchSizeHintKey, options.fetchSize());
+			}
+
+			String readOnlyHintKey = provider.getReadOnlyHintKey();
+			if (options.readOnly() && readOnlyHintKey != null) {
+				query.setHint(readOnlyHintKey, true);
+			}
+		}
+	}
+
+	/**
+	 * {@link CloseableIterator} that clears the persistence context after a number of consumed elements. Clearing is
+	 * deferred until the next element is requested so that the element returned last remains managed while it is
+	 * processed.
+	 *
+	 * @since 3.4
+	 */
+	static class ClearingIterator implements CloseableIterator<Object> {
+
+		private final Stream<Object> stream;
+		private final Iterator<Object> delegate;
+		private final EntityManager entityManager;
+		private final int clearInterval;
+
+		private int consumed;
+		private boolean clearPending;
+
+		ClearingIterator(Stream<Object> stream, EntityManager entityManager, int clearInterval) {
+
+			Assert.isTrue(clearInterval > 0, "Clear interval must be greater than zero");
+
+			this.stream = stream;
+			this.delegate = stream.iterator();
+			this.entityManager = entityManager;
+			this.clearInterval = clearInterval;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			// advancing the cursor may already materialize the next element so clear upfront
+			clearIfPending();
+
+			return delegate.hasNext();
+		}
+
+		@Override
+		public Object next() {
+
+			clearIfPending();
+
+			Object next = delegate.next();
+
+			if (++consumed == clearInterval) {
+				consumed = 0;
+				clearPending = true;
+			}
+
+			return next;
+		}
+
+		@Override
+		public void close() {
+			stream.close();
+		}
+
+		private void clearIfPending() {
+
+			if (clearPending) {
+				entityManager.clear();
+				clearPending = false;
+			}
 		}
 	}
 
@@ -39,14 +39,29 @@ enum JpaQueryFactory {
 	AbstractJpaQuery fromMethodWithQueryString(JpaQueryMethod method, EntityManager em, String queryString,
 			@Nullable String countQueryString, QueryRewriter queryRewriter,
 			ValueExpressionDelegate valueExpressionDelegate) {
+		return fromMethodWithQueryString(method, em, queryString, countQueryString, queryRewriter, valueExpressionDelegate,
+				QueryCacheConfiguration.create());
+	}
+
+	/**
+	 * Creates a {@link RepositoryQuery} from the given {@link String} query using the given
+	 * {@link QueryCacheConfiguration}.
+	 *
+	 * @since 3.4
+	 */
+	AbstractJpaQuery fromMethodWithQueryString(JpaQueryMethod method, EntityManager em, String queryString,
+			@Nullable String countQueryString, QueryRewriter queryRewriter, ValueExpressionDelegate valueExpressionDelegate,
+			QueryCacheConfiguration cacheConfiguration) {
 
 		if (method.isScrollQuery()) {
 			throw QueryCreationException.create(method, "Scroll queries are not supported using String-based queries");
 		}
 
 		return method.isNativeQuery()
-				? new NativeJpaQuery(method, em, queryString, countQueryString, queryRewriter, valueExpressionDelegate)
-				: new SimpleJpaQuery(method, em, queryString, countQueryString, queryRewriter, valueExpressionDelegate);
+				? new NativeJpaQuery(method, em, queryString, countQueryString, queryRewriter, valueExpressionDelegate,
+						cacheConfiguration)
+				: new SimpleJpaQuery(method, em, queryString, countQueryString, queryRewriter, valueExpressionDelegate,
+						cacheConfiguration);
 	}
 
 	/**
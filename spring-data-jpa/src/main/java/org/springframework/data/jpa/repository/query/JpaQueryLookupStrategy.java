@@ -95,6 +95,9 @@ public final class JpaQueryLookupStrategy {
 		@Override
 		public final RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 				NamedQueries namedQueries) {
+
+			PrecomputedQueries.register(metadata.getRepositoryInterface());
+
 			JpaQueryMethod queryMethod = queryMethodFactory.build(method, metadata, factory);
 			return resolveQuery(queryMethod, queryRewriterProvider.getQueryRewriter(queryMethod), em, namedQueries);
 		}
@@ -140,6 +143,7 @@ public final class JpaQueryLookupStrategy {
 	private static class DeclaredQueryLookupStrategy extends AbstractQueryLookupStrategy {
 
 		private final ValueExpressionDelegate valueExpressionDelegate;
+		private final QueryCacheConfiguration cacheConfiguration;
 
 		/**
 		 * Creates a new {@link DeclaredQueryLookupStrategy}.
@@ -147,13 +151,16 @@ public final class JpaQueryLookupStrategy {
 		 * @param em must not be {@literal null}.
 		 * @param queryMethodFactory must not be {@literal null}.
 		 * @param evaluationContextProvider must not be {@literal null}.
+		 * @param cacheConfiguration must not be {@literal null}.
 		 */
 		public DeclaredQueryLookupStrategy(EntityManager em, JpaQueryMethodFactory queryMethodFactory,
-				ValueExpressionDelegate delegate, QueryRewriterProvider queryRewriterProvider) {
+				ValueExpressionDelegate delegate, QueryRewriterProvider queryRewriterProvider,
+				QueryCacheConfiguration cacheConfiguration) {
 
 			super(em, queryMethodFactory, queryRewriterProvider);
 
 			this.valueExpressionDelegate = delegate;
+			this.cacheConfiguration = cacheConfiguration;
 		}
 
 		@Override
@@ -172,13 +179,13 @@ public final class JpaQueryLookupStrategy {
 				}
 
 				return JpaQueryFactory.INSTANCE.fromMethodWithQueryString(method, em, method.getRequiredAnnotatedQuery(),
-						getCountQuery(method, namedQueries, em), queryRewriter, valueExpressionDelegate);
+						getCountQuery(method, namedQueries, em), queryRewriter, valueExpressionDelegate, cacheConfiguration);
 			}
 
 			String name = method.getNamedQueryName();
 			if (namedQueries.hasQuery(name)) {
 				return JpaQueryFactory.INSTANCE.fromMethodWithQueryString(method, em, namedQueries.getQuery(name),
-						getCountQuery(method, namedQueries, em), queryRewriter, valueExpressionDelegate);
+						getCountQuery(method, namedQueries, em), queryRewriter, valueExpressionDelegate, cacheConfiguration);
 			}
 
 			RepositoryQuery query = NamedQuery.lookupFrom(method, em);
@@ -298,17 +305,37 @@ public final class JpaQueryLookupStrategy {
 	public static QueryLookupStrategy create(EntityManager em, JpaQueryMethodFactory queryMethodFactory,
 			@Nullable Key key, ValueExpressionDelegate delegate, QueryRewriterProvider queryRewriterProvider,
 			EscapeCharacter escape) {
+		return create(em, queryMethodFactory, key, delegate, queryRewriterProvider, escape,
+				QueryCacheConfiguration.create());
+	}
+
+	/**
+	 * Creates a {@link QueryLookupStrategy} for the given {@link EntityManager} and {@link Key}.
+	 *
+	 * @param em must not be {@literal null}.
+	 * @param queryMethodFactory must not be {@literal null}.
+	 * @param key may be {@literal null}.
+	 * @param delegate must not be {@literal null}.
+	 * @param queryRewriterProvider must not be {@literal null}.
+	 * @param escape must not be {@literal null}.
+	 * @param cacheConfiguration must not be {@literal null}.
+	 * @since 3.4
+	 */
+	public static QueryLookupStrategy create(EntityManager em, JpaQueryMethodFactory queryMethodFactory,
+			@Nullable Key key, ValueExpressionDelegate delegate, QueryRewriterProvider queryRewriterProvider,
+			EscapeCharacter escape, QueryCacheConfiguration cacheConfiguration) {
 
 		Assert.notNull(em, "EntityManager must not be null");
 		Assert.notNull(delegate, "ValueExpressionDelegate must not be null");
+		Assert.notNull(cacheConfiguration, "QueryCacheConfiguration must not be null");
 
 		return switch (key != null ? key : Key.CREATE_IF_NOT_FOUND) {
 			case CREATE -> new CreateQueryLookupStrategy(em, queryMethodFactory, queryRewriterProvider, escape);
 			case USE_DECLARED_QUERY ->
-				new DeclaredQueryLookupStrategy(em, queryMethodFactory, delegate, queryRewriterProvider);
+				new DeclaredQueryLookupStrategy(em, queryMethodFactory, delegate, queryRewriterProvider, cacheConfiguration);
 			case CREATE_IF_NOT_FOUND -> new CreateIfNotFoundQueryLookupStrategy(em, queryMethodFactory,
 					new CreateQueryLookupStrategy(em, queryMethodFactory, queryRewriterProvider, escape),
-					new DeclaredQueryLookupStrategy(em, queryMethodFactory, delegate, queryRewriterProvider),
+					new DeclaredQueryLookupStrategy(em, queryMethodFactory, delegate, queryRewriterProvider, cacheConfiguration),
 					queryRewriterProvider);
 			default -> throw new IllegalArgumentException(String.format("Unsupported query lookup strategy %s", key));
 		};
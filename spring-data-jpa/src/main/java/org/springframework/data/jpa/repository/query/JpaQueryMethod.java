@@ -30,6 +30,7 @@ import java.util.Set;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.jpa.provider.QueryExtractor;
+import org.springframework.data.jpa.repository.CountOptions;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Meta;
@@ -37,6 +38,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.QueryRewriter;
+import org.springframework.data.jpa.repository.StreamOptions;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Parameters;
@@ -98,6 +100,8 @@ public class JpaQueryMethod extends QueryMethod {
 	private final Lazy<Boolean> isProcedureQuery;
 	private final Lazy<JpaEntityMetadata<?>> entityMetadata;
 	private final Lazy<Optional<Meta>> metaAnnotation;
+	private final Lazy<StreamOptions> streamOptions;
+	private final Lazy<CountOptions> countOptions;
 
 	/**
 	 * Creates a {@link JpaQueryMethod}.
@@ -141,6 +145,8 @@ public class JpaQueryMethod extends QueryMethod {
 		this.entityMetadata = Lazy.of(() -> new DefaultJpaEntityMetadata<>(getDomainClass()));
 		this.metaAnnotation = Lazy
 				.of(() -> Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Meta.class)));
+		this.streamOptions = Lazy.of(() -> AnnotatedElementUtils.findMergedAnnotation(method, StreamOptions.class));
+		this.countOptions = Lazy.of(() -> AnnotatedElementUtils.findMergedAnnotation(method, CountOptions.class));
 
 		Assert.isTrue(!(isModifyingQuery() && getParameters().hasSpecialParameter()),
 				() -> String.format("Modifying method must not contain %s", Parameters.TYPES));
@@ -189,6 +195,28 @@ public class JpaQueryMethod extends QueryMethod {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Returns the {@link StreamOptions} declared on the query method or {@literal null} if none declared.
+	 *
+	 * @return
+	 * @since 3.4
+	 */
+	@Nullable
+	StreamOptions getStreamOptions() {
+		return this.streamOptions.getNullable();
+	}
+
+	/**
+	 * Returns the {@link CountOptions} declared on the query method or {@literal null} if none declared.
+	 *
+	 * @return
+	 * @since 3.4
+	 */
+	@Nullable
+	CountOptions getCountOptions() {
+		return this.countOptions.getNullable();
+	}
+
 	/**
 	 * Returns the {@link LockModeType} to be used for the query.
 	 *
@@ -0,0 +1,412 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.springframework.data.repository.query.parser.Part.Type.*;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.ManagedType;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.NullHandling;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.jpa.domain.JpaSort.JpaOrder;
+import org.springframework.data.jpa.repository.query.ParameterMetadataProvider.ParameterMetadata;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.query.parser.AbstractQueryCreator;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
+import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Query creator to render a JPQL query string with named parameters from a {@link PartTree}. Rendered queries are
+ * plain strings so that the persistence provider can cache their interpretation, unlike {@link JpaQueryCreator} that
+ * builds a new criteria tree for each query.
+ * <p>
+ * Only supports predicates on basic attributes of the domain type (or collection attributes for membership and
+ * emptiness checks) without navigating into associations. Use {@link #supports(PartTree, ManagedType)} and
+ * {@link #supports(Sort, ManagedType)} to check whether a query can be rendered, and fall back to
+ * {@link JpaQueryCreator} otherwise. Parameters are named through {@link #getParameterName(int)} using the index of
+ * their {@link ParameterMetadata}.
+ *
+ * @author agent
+ * @since 3.4
+ */
+class JpqlQueryCreator extends AbstractQueryCreator<String, String> {
+
+	private static final String ALIAS = "x";
+
+	private final PartTree tree;
+	private final String entityName;
+	private final ManagedType<?> managedType;
+	private final ParameterMetadataProvider provider;
+	private final boolean countQuery;
+
+	/**
+	 * Create a new {@link JpqlQueryCreator}.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param entityName must not be {@literal null}.
+	 * @param managedType must not be {@literal null}.
+	 * @param provider must not be {@literal null}.
+	 * @param countQuery whether to render a count query.
+	 */
+	JpqlQueryCreator(PartTree tree, String entityName, ManagedType<?> managedType, ParameterMetadataProvider provider,
+			boolean countQuery) {
+
+		super(tree);
+
+		Assert.hasText(entityName, "Entity name must not be empty");
+		Assert.notNull(managedType, "ManagedType must not be null");
+		Assert.notNull(provider, "ParameterMetadataProvider must not be null");
+
+		this.tree = tree;
+		this.entityName = entityName;
+		this.managedType = managedType;
+		this.provider = provider;
+		this.countQuery = countQuery;
+	}
+
+	/**
+	 * Returns whether all predicates of the given {@link PartTree} can be rendered.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param managedType must not be {@literal null}.
+	 * @return {@literal true} if the {@link PartTree} can be rendered as JPQL.
+	 */
+	static boolean supports(PartTree tree, ManagedType<?> managedType) {
+
+		for (PartTree.OrPart orPart : tree) {
+			for (Part part : orPart) {
+				if (!supports(part, managedType)) {
+					return false;
+				}
+			}
+		}
+
+		return supports(tree.getSort(), managedType);
+	}
+
+	/**
+	 * Returns whether the given {@link Sort} can be rendered.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @param managedType must not be {@literal null}.
+	 * @return {@literal true} if the {@link Sort} can be rendered as JPQL.
+	 */
+	static boolean supports(Sort sort, ManagedType<?> managedType) {
+
+		for (Order order : sort) {
+
+			if (order instanceof JpaOrder jpaOrder && jpaOrder.isUnsafe()) {
+				return false;
+			}
+
+			if (order.getNullHandling() != NullHandling.NATIVE) {
+				return false;
+			}
+
+			Attribute<?, ?> attribute = getAttribute(managedType, order.getProperty());
+
+			if (attribute == null || !isBasic(attribute)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean supports(Part part, ManagedType<?> managedType) {
+
+		PropertyPath property = part.getProperty();
+
+		if (property.hasNext()) {
+			return false;
+		}
+
+		Attribute<?, ?> attribute = getAttribute(managedType, property.getSegment());
+
+		if (attribute == null) {
+			return false;
+		}
+
+		switch (part.getType()) {
+			case IS_EMPTY:
+			case IS_NOT_EMPTY:
+				return attribute.isCollection();
+			case STARTING_WITH:
+			case ENDING_WITH:
+			case CONTAINING:
+			case NOT_CONTAINING:
+				if (property.getLeafProperty().isCollection()) {
+					return attribute.isCollection();
+				}
+			case BETWEEN:
+			case AFTER:
+			case GREATER_THAN:
+			case GREATER_THAN_EQUAL:
+			case BEFORE:
+			case LESS_THAN:
+			case LESS_THAN_EQUAL:
+			case IS_NULL:
+			case IS_NOT_NULL:
+			case NOT_IN:
+			case IN:
+			case LIKE:
+			case NOT_LIKE:
+			case TRUE:
+			case FALSE:
+			case SIMPLE_PROPERTY:
+			case NEGATING_SIMPLE_PROPERTY:
+				return isBasic(attribute)
+						&& (part.shouldIgnoreCase() != IgnoreCaseType.ALWAYS || isString(attribute));
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Returns the name of the query parameter for the {@link ParameterMetadata} at {@code index}.
+	 *
+	 * @param index zero-based index of the {@link ParameterMetadata}.
+	 * @return the parameter name.
+	 */
+	static String getParameterName(int index) {
+		return "p" + (index + 1);
+	}
+
+	/**
+	 * Returns the type of the query result, either the domain type or {@link Long} for count queries.
+	 *
+	 * @return the result type.
+	 */
+	Class<?> getResultType() {
+		return countQuery ? Long.class : managedType.getJavaType();
+	}
+
+	/**
+	 * Returns all {@link ParameterMetadata} created when rendering the query.
+	 *
+	 * @return the parameter metadata.
+	 */
+	List<ParameterMetadata<?>> getParameterExpressions() {
+		return provider.getExpressions();
+	}
+
+	@Override
+	protected String create(Part part, Iterator<Object> iterator) {
+		return render(part);
+	}
+
+	@Override
+	protected String and(Part part, String base, Iterator<Object> iterator) {
+		return base + " and " + render(part);
+	}
+
+	@Override
+	protected String or(String base, String criteria) {
+		return base + " or " + criteria;
+	}
+
+	@Override
+	protected String complete(@Nullable String criteria, Sort sort) {
+
+		StringBuilder builder = new StringBuilder("select ");
+
+		if (countQuery) {
+			builder.append(tree.isDistinct() ? "count(distinct " + ALIAS + ")" : "count(" + ALIAS + ")");
+		} else {
+			builder.append(tree.isDistinct() && !tree.isCountProjection() ? "distinct " + ALIAS : ALIAS);
+		}
+
+		builder.append(" from ").append(entityName).append(' ').append(ALIAS);
+
+		if (criteria != null) {
+			builder.append(" where ").append(criteria);
+		}
+
+		if (!countQuery && sort.isSorted()) {
+
+			builder.append(" order by ");
+
+			boolean first = true;
+
+			for (Order order : sort) {
+
+				if (!first) {
+					builder.append(", ");
+				}
+
+				String path = path(order.getProperty());
+				builder.append(order.isIgnoreCase() && isString(getRequiredAttribute(order.getProperty())) //
+						? "lower(" + path + ")" //
+						: path);
+				builder.append(order.isAscending() ? " asc" : " desc");
+				first = false;
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Renders the predicate for the given {@link Part} mirroring the predicates created by {@link JpaQueryCreator}.
+	 */
+	private String render(Part part) {
+
+		String segment = part.getProperty().getSegment();
+		String path = path(segment);
+		Type type = part.getType();
+
+		switch (type) {
+			case BETWEEN:
+				String lower = parameter(provider.next(part));
+				return path + " between " + lower + " and " + parameter(provider.next(part));
+			case AFTER:
+			case GREATER_THAN:
+				return path + " > " + parameter(provider.next(part, Comparable.class));
+			case GREATER_THAN_EQUAL:
+				return path + " >= " + parameter(provider.next(part, Comparable.class));
+			case BEFORE:
+			case LESS_THAN:
+				return path + " < " + parameter(provider.next(part, Comparable.class));
+			case LESS_THAN_EQUAL:
+				return path + " <= " + parameter(provider.next(part, Comparable.class));
+			case IS_NULL:
+				return path + " is null";
+			case IS_NOT_NULL:
+				return path + " is not null";
+			case NOT_IN:
+				return upperIfIgnoreCase(part, path, segment) + " not in "
+						+ parameter(provider.next(part, Collection.class));
+			case IN:
+				return upperIfIgnoreCase(part, path, segment) + " in " + parameter(provider.next(part, Collection.class));
+			case STARTING_WITH:
+			case ENDING_WITH:
+			case CONTAINING:
+			case NOT_CONTAINING:
+
+				if (part.getProperty().getLeafProperty().isCollection()) {
+					return parameter(provider.next(part)) + (type.equals(NOT_CONTAINING) ? " not member of " : " member of ")
+							+ path;
+				}
+
+			case LIKE:
+			case NOT_LIKE:
+				String parameter = upperIfIgnoreCase(part, provider.next(part, String.class));
+				String like = type.equals(NOT_LIKE) || type.equals(NOT_CONTAINING) ? " not like " : " like ";
+				return upperIfIgnoreCase(part, path, segment) + like + parameter + " escape "
+						+ literal(provider.getEscape().getEscapeCharacter());
+			case TRUE:
+				return path + " = true";
+			case FALSE:
+				return path + " = false";
+			case SIMPLE_PROPERTY:
+				ParameterMetadata<Object> metadata = provider.next(part);
+				return metadata.isIsNullParameter() ? path + " is null"
+						: upperIfIgnoreCase(part, path, segment) + " = " + upperIfIgnoreCase(part, metadata);
+			case NEGATING_SIMPLE_PROPERTY:
+				return upperIfIgnoreCase(part, path, segment) + " <> " + upperIfIgnoreCase(part, provider.next(part));
+			case IS_EMPTY:
+				return path + " is empty";
+			case IS_NOT_EMPTY:
+				return path + " is not empty";
+			default:
+				throw new IllegalArgumentException("Unsupported keyword " + type);
+		}
+	}
+
+	private String upperIfIgnoreCase(Part part, String path, String segment) {
+		return upperIfIgnoreCase(part, path, isString(getRequiredAttribute(segment)), segment);
+	}
+
+	private String upperIfIgnoreCase(Part part, ParameterMetadata<?> metadata) {
+		return upperIfIgnoreCase(part, parameter(metadata), String.class.equals(metadata.getExpression().getJavaType()),
+				part.getProperty().getSegment());
+	}
+
+	private static String upperIfIgnoreCase(Part part, String expression, boolean canUpperCase, String segment) {
+
+		switch (part.shouldIgnoreCase()) {
+
+			case ALWAYS:
+
+				Assert.state(canUpperCase,
+						"Unable to ignore case of non-String types, the property '" + segment + "' must reference a String");
+				return "upper(" + expression + ")";
+
+			case WHEN_POSSIBLE:
+
+				if (canUpperCase) {
+					return "upper(" + expression + ")";
+				}
+
+			case NEVER:
+			default:
+
+				return expression;
+		}
+	}
+
+	private String parameter(ParameterMetadata<?> metadata) {
+		return ":" + getParameterName(provider.getExpressions().indexOf(metadata));
+	}
+
+	private Attribute<?, ?> getRequiredAttribute(String name) {
+
+		Attribute<?, ?> attribute = getAttribute(managedType, name);
+
+		if (attribute == null) {
+			throw new IllegalArgumentException("No attribute '%s' found on %s".formatted(name, managedType.getJavaType()));
+		}
+
+		return attribute;
+	}
+
+	private static String path(String property) {
+		return ALIAS + "." + property;
+	}
+
+	private static String literal(char character) {
+		return character == '\'' ? "''''" : "'" + character + "'";
+	}
+
+	@Nullable
+	private static Attribute<?, ?> getAttribute(ManagedType<?> managedType, String name) {
+
+		try {
+			return managedType.getAttribute(name);
+		} catch (IllegalArgumentException o_O) {
+			return null;
+		}
+	}
+
+	private static boolean isBasic(Attribute<?, ?> attribute) {
+		return attribute.getPersistentAttributeType() == PersistentAttributeType.BASIC;
+	}
+
+	private static boolean isString(Attribute<?, ?> attribute) {
+		return String.class.equals(attribute.getJavaType());
+	}
+}
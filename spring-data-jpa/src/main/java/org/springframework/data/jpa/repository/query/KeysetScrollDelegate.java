@@ -57,6 +57,12 @@ public class KeysetScrollDelegate {
 			return null;
 		}
 
+		P rangePredicate = createRangePredicate(keysetValues, sort, strategy);
+
+		if (rangePredicate != null) {
+			return rangePredicate;
+		}
+
 		List<P> or = new ArrayList<>();
 		int i = 0;
 
@@ -100,6 +106,65 @@ public class KeysetScrollDelegate {
 		return strategy.or(or);
 	}
 
+	/**
+	 * Create a nested range predicate equivalent to the row-value comparison {@code (a, b, c) > (:a, :b, :c)} in the form
+	 * of {@code a >= :a AND (a > :a OR (b >= :b AND (b > :b OR c > :c)))}. Its size grows linearly with the number of
+	 * sort orders and it leads with a range predicate on the first sort property so that databases can use an index
+	 * range scan instead of evaluating one disjunction per sort order.
+	 * <p>
+	 * Returns {@literal null} if the sort consists of a single order (no benefit), if a keyset value is {@literal null}
+	 * (range predicates do not match {@code NULL}) or if the {@link QueryStrategy} does not support inclusive
+	 * comparisons.
+	 */
+	@Nullable
+	private static <E, P> P createRangePredicate(Map<String, Object> keysetValues, Sort sort,
+			QueryStrategy<E, P> strategy) {
+
+		List<Order> orders = sort.toList();
+
+		if (orders.size() < 2) {
+			return null;
+		}
+
+		for (Order order : orders) {
+
+			if (!keysetValues.containsKey(order.getProperty())) {
+				throw new IllegalStateException(String
+						.format("KeysetScrollPosition does not contain all keyset values. Missing key: %s", order.getProperty()));
+			}
+
+			if (keysetValues.get(order.getProperty()) == null) {
+				return null;
+			}
+		}
+
+		P predicate = null;
+
+		for (int i = orders.size() - 1; i >= 0; i--) {
+
+			Order order = orders.get(i);
+			E propertyExpression = strategy.createExpression(order.getProperty());
+			Object value = keysetValues.get(order.getProperty());
+
+			P exclusive = strategy.compare(order, propertyExpression, value);
+
+			if (predicate == null) {
+				predicate = exclusive;
+				continue;
+			}
+
+			P inclusive = strategy.compareInclusive(order, propertyExpression, value);
+
+			if (inclusive == null) {
+				return null;
+			}
+
+			predicate = strategy.and(List.of(inclusive, strategy.or(List.of(exclusive, predicate))));
+		}
+
+		return predicate;
+	}
+
 	protected Sort getSortOrders(Sort sort) {
 		return sort;
 	}
@@ -167,6 +232,24 @@ public class KeysetScrollDelegate {
 		 */
 		P compare(Order order, E propertyExpression, Object value);
 
+		/**
+		 * Create a comparison object according to the {@link Order} that also matches the given {@code value} (greater
+		 * than or equal to for ascending, less than or equal to for descending order). Strategies supporting inclusive
+		 * comparisons allow keyset predicates to be rendered as nested range predicates instead of a disjunction per sort
+		 * order.
+		 *
+		 * @param order must not be {@literal null}.
+		 * @param propertyExpression must not be {@literal null}.
+		 * @param value the value to compare with. Must not be {@literal null}.
+		 * @return an object representing the comparison predicate or {@literal null} if inclusive comparisons are not
+		 *         supported.
+		 * @since 3.4
+		 */
+		@Nullable
+		default P compareInclusive(Order order, E propertyExpression, Object value) {
+			return null;
+		}
+
 		/**
 		 * Create an equals-comparison object.
 		 *
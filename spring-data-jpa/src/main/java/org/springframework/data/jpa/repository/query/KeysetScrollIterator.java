@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Iterator} over all elements of a result that is fetched through consecutive keyset-scrolling {@link Window
+ * windows}. Each window continues after the last element of the previous window, so only the current window is held
+ * in memory and no database cursor is kept open between windows.
+ * <p>
+ * Works with any keyset-scrolling window source, such as query methods returning {@link Window}:
+ *
+ * <pre class="code">
+ * Stream&lt;User&gt; users = KeysetScrollIterator
+ * 		.of(position -&gt; repository.findFirst1000ByLastnameOrderByFirstname("Matthews", position)).stream();
+ * </pre>
+ *
+ * @author agent
+ * @since 3.4
+ */
+public class KeysetScrollIterator<T> implements Iterator<T> {
+
+	private final Function<? super KeysetScrollPosition, Window<T>> windowFunction;
+	private final Runnable beforeNextWindow;
+
+	private KeysetScrollPosition position;
+	private @Nullable Window<T> currentWindow;
+	private @Nullable Iterator<T> currentIterator;
+
+	private KeysetScrollIterator(Function<? super KeysetScrollPosition, Window<T>> windowFunction,
+			KeysetScrollPosition position, Runnable beforeNextWindow) {
+
+		this.windowFunction = windowFunction;
+		this.position = position;
+		this.beforeNextWindow = beforeNextWindow;
+	}
+
+	/**
+	 * Creates a new {@link KeysetScrollIterator} starting at the {@link ScrollPosition#keyset() initial position}.
+	 *
+	 * @param windowFunction function to fetch the window for a given position, must not be {@literal null}.
+	 * @return a new {@link KeysetScrollIterator}.
+	 */
+	public static <T> KeysetScrollIterator<T> of(Function<? super KeysetScrollPosition, Window<T>> windowFunction) {
+		return of(windowFunction, ScrollPosition.keyset(), () -> {});
+	}
+
+	/**
+	 * Creates a new {@link KeysetScrollIterator} starting at {@code position}. {@code beforeNextWindow} is invoked
+	 * before fetching each subsequent window, e.g. to clear the persistence context from entities of previous windows.
+	 *
+	 * @param windowFunction function to fetch the window for a given position, must not be {@literal null}.
+	 * @param position the position to start at, must not be {@literal null}.
+	 * @param beforeNextWindow callback to run before fetching each subsequent window, must not be {@literal null}.
+	 * @return a new {@link KeysetScrollIterator}.
+	 */
+	public static <T> KeysetScrollIterator<T> of(Function<? super KeysetScrollPosition, Window<T>> windowFunction,
+			KeysetScrollPosition position, Runnable beforeNextWindow) {
+
+		Assert.notNull(windowFunction, "Window function must not be null");
+		Assert.notNull(position, "KeysetScrollPosition must not be null");
+		Assert.notNull(beforeNextWindow, "Callback must not be null");
+
+		return new KeysetScrollIterator<>(windowFunction, position, beforeNextWindow);
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		while (currentIterator == null || !currentIterator.hasNext()) {
+
+			if (currentWindow != null) {
+
+				if (currentWindow.isEmpty() || !currentWindow.hasNext()) {
+					return false;
+				}
+
+				position = getLastPosition(currentWindow);
+				beforeNextWindow.run();
+			}
+
+			currentWindow = windowFunction.apply(position);
+			currentIterator = currentWindow.iterator();
+		}
+
+		return true;
+	}
+
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return currentIterator.next();
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} consuming this iterator.
+	 *
+	 * @return a new {@link Stream}.
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	private static KeysetScrollPosition getLastPosition(Window<?> window) {
+
+		if (window.positionAt(window.size() - 1) instanceof KeysetScrollPosition keyset) {
+			return keyset;
+		}
+
+		throw new IllegalStateException("Window %s does not use keyset scrolling".formatted(window));
+	}
+}
@@ -19,12 +19,15 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.ParameterExpression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Sort;
@@ -34,6 +37,7 @@ import org.springframework.data.jpa.repository.query.KeysetScrollDelegate.QueryS
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link Specification} to create scroll queries using keyset-scrolling.
@@ -83,6 +87,32 @@ public record KeysetScrollSpecification<T> (KeysetScrollPosition position, Sort
 		return delegate.getSortOrders(sortToUse);
 	}
 
+	/**
+	 * Create {@link ParameterExpression parameters} for each property of {@code sort}. Using a
+	 * {@link KeysetScrollSpecification} with a {@link KeysetScrollPosition} holding these parameters as keyset values
+	 * allows creating a scroll query once and binding keyset values for each subsequent position.
+	 *
+	 * @param sort must not be {@literal null}, should be created through {@link #createSort}.
+	 * @param domainType must not be {@literal null}.
+	 * @param criteriaBuilder must not be {@literal null}.
+	 * @return parameters keyed by their property path.
+	 * @since 3.4
+	 */
+	public static Map<String, ParameterExpression<?>> createParameters(Sort sort, Class<?> domainType,
+			CriteriaBuilder criteriaBuilder) {
+
+		Map<String, ParameterExpression<?>> parameters = new LinkedHashMap<>();
+
+		for (Order order : sort) {
+
+			Class<?> type = PropertyPath.from(order.getProperty(), domainType).getLeafType();
+			parameters.put(order.getProperty(),
+					criteriaBuilder.parameter(ClassUtils.resolvePrimitiveIfNecessary(type), "keyset" + parameters.size()));
+		}
+
+		return parameters;
+	}
+
 	@Override
 	public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
 		return createPredicate(root, criteriaBuilder);
@@ -95,7 +125,7 @@ public record KeysetScrollSpecification<T> (KeysetScrollPosition position, Sort
 		return delegate.createPredicate(position, sort, new JpaQueryStrategy(root, criteriaBuilder));
 	}
 
-	@SuppressWarnings("rawtypes")
+	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private static class JpaQueryStrategy implements QueryStrategy<Expression<Comparable>, Predicate> {
 
 		private final From<?, ?> from;
@@ -117,12 +147,34 @@ public record KeysetScrollSpecification<T> (KeysetScrollPosition position, Sort
 		@Override
 		public Predicate compare(Order order, Expression<Comparable> propertyExpression, Object value) {
 
+			if (value instanceof Expression<?> expression) {
+				return order.isAscending() ? cb.greaterThan(propertyExpression, (Expression<Comparable>) expression)
+						: cb.lessThan(propertyExpression, (Expression<Comparable>) expression);
+			}
+
 			return order.isAscending() ? cb.greaterThan(propertyExpression, (Comparable) value)
 					: cb.lessThan(propertyExpression, (Comparable) value);
 		}
 
+		@Override
+		public Predicate compareInclusive(Order order, Expression<Comparable> propertyExpression, Object value) {
+
+			if (value instanceof Expression<?> expression) {
+				return order.isAscending() ? cb.greaterThanOrEqualTo(propertyExpression, (Expression<Comparable>) expression)
+						: cb.lessThanOrEqualTo(propertyExpression, (Expression<Comparable>) expression);
+			}
+
+			return order.isAscending() ? cb.greaterThanOrEqualTo(propertyExpression, (Comparable) value)
+					: cb.lessThanOrEqualTo(propertyExpression, (Comparable) value);
+		}
+
 		@Override
 		public Predicate compare(Expression<Comparable> propertyExpression, @Nullable Object value) {
+
+			if (value instanceof Expression<?> expression) {
+				return cb.equal(propertyExpression, expression);
+			}
+
 			return value == null ? cb.isNull(propertyExpression) : cb.equal(propertyExpression, value);
 		}
 
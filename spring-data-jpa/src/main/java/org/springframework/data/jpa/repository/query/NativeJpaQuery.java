@@ -60,8 +60,27 @@ final class NativeJpaQuery extends AbstractStringBasedJpaQuery {
 	 */
 	public NativeJpaQuery(JpaQueryMethod method, EntityManager em, String queryString, @Nullable String countQueryString,
 			QueryRewriter rewriter, ValueExpressionDelegate valueExpressionDelegate) {
+		this(method, em, queryString, countQueryString, rewriter, valueExpressionDelegate,
+				QueryCacheConfiguration.create());
+	}
+
+	/**
+	 * Creates a new {@link NativeJpaQuery} encapsulating the query annotated on the given {@link JpaQueryMethod}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param em must not be {@literal null}.
+	 * @param queryString must not be {@literal null} or empty.
+	 * @param countQueryString must not be {@literal null} or empty.
+	 * @param rewriter the query rewriter to use.
+	 * @param valueExpressionDelegate must not be {@literal null}.
+	 * @param cacheConfiguration must not be {@literal null}.
+	 * @since 3.4
+	 */
+	public NativeJpaQuery(JpaQueryMethod method, EntityManager em, String queryString, @Nullable String countQueryString,
+			QueryRewriter rewriter, ValueExpressionDelegate valueExpressionDelegate,
+			QueryCacheConfiguration cacheConfiguration) {
 
-		super(method, em, queryString, countQueryString, rewriter, valueExpressionDelegate);
+		super(method, em, queryString, countQueryString, rewriter, valueExpressionDelegate, cacheConfiguration);
 
 		MergedAnnotations annotations = MergedAnnotations.from(method.getMethod());
 		MergedAnnotation<NativeQuery> annotation = annotations.get(NativeQuery.class);
@@ -17,6 +17,9 @@ package org.springframework.data.jpa.repository.query;
 
 import jakarta.persistence.Query;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.query.QueryParameterSetter.ErrorHandling;
 import org.springframework.data.jpa.support.PageableUtils;
@@ -38,7 +41,7 @@ public class ParameterBinder {
 	static final String PARAMETER_NEEDS_TO_BE_NAMED = "For queries with named parameters you need to provide names for method parameters; Use @Param for query method parameters, or when on Java 8+ use the javac flag -parameters";
 
 	private final JpaParameters parameters;
-	private final Iterable<QueryParameterSetter> parameterSetters;
+	private final QueryParameterSetter[] parameterSetters;
 	private final boolean useJpaForPaging;
 
 	/**
@@ -68,7 +71,7 @@ public class ParameterBinder {
 		Assert.notNull(parameterSetters, "Parameter setters must not be null");
 
 		this.parameters = parameters;
-		this.parameterSetters = parameterSetters;
+		this.parameterSetters = toArray(parameterSetters);
 		this.useJpaForPaging = useJpaForPaging;
 	}
 
@@ -82,8 +85,8 @@ public class ParameterBinder {
 	public void bind(QueryParameterSetter.BindableQuery query, JpaParametersParameterAccessor accessor,
 			ErrorHandling errorHandling) {
 
-		for (QueryParameterSetter setter : parameterSetters) {
-			setter.setParameter(query, accessor, errorHandling);
+		for (int i = 0; i < parameterSetters.length; i++) {
+			parameterSetters[i].setParameter(query, accessor, errorHandling);
 		}
 	}
 
@@ -115,4 +118,16 @@ public class ParameterBinder {
 
 		return query;
 	}
+
+	private static QueryParameterSetter[] toArray(Iterable<QueryParameterSetter> parameterSetters) {
+
+		if (parameterSetters instanceof List<QueryParameterSetter> list) {
+			return list.toArray(new QueryParameterSetter[0]);
+		}
+
+		List<QueryParameterSetter> setters = new ArrayList<>();
+		parameterSetters.forEach(setters::add);
+
+		return setters.toArray(new QueryParameterSetter[0]);
+	}
 }
@@ -73,6 +73,27 @@ class ParameterBinderFactory {
 		return new ParameterBinder(parameters, createSetters(bindings, setterFactory));
 	}
 
+	/**
+	 * Creates a {@link ParameterBinder} that matches method parameters to the named parameters of a query rendered by
+	 * {@link JpqlQueryCreator}.
+	 *
+	 * @param parameters method parameters that are available for binding, must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @return a {@link ParameterBinder} that can assign values for the method parameters to query parameters of a
+	 *         rendered JPQL query.
+	 * @since 3.4
+	 */
+	static ParameterBinder createJpqlBinder(JpaParameters parameters, List<ParameterMetadata<?>> metadata) {
+
+		Assert.notNull(parameters, "JpaParameters must not be null");
+		Assert.notNull(metadata, "Parameter metadata must not be null");
+
+		QueryParameterSetterFactory setterFactory = QueryParameterSetterFactory.forJpqlQuery(parameters, metadata);
+		List<ParameterBinding> bindings = getBindings(parameters);
+
+		return new ParameterBinder(parameters, createSetters(bindings, setterFactory));
+	}
+
 	/**
 	 * Creates a {@link ParameterBinder} that just matches parameter by name if those are available, or by index/position
 	 * otherwise. The resulting {@link ParameterBinder} can also handle SpEL expressions in the query. Uses the supplied
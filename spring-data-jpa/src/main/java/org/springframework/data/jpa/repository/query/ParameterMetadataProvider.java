@@ -96,7 +96,7 @@ class ParameterMetadataProvider {
 	 * @param parameters must not be {@literal null}.
 	 * @param escape must not be {@literal null}.
 	 */
-	private ParameterMetadataProvider(CriteriaBuilder builder, @Nullable Iterator<Object> bindableParameterValues,
+	ParameterMetadataProvider(CriteriaBuilder builder, @Nullable Iterator<Object> bindableParameterValues,
 			Parameters<?, ?> parameters, EscapeCharacter escape) {
 
 		Assert.notNull(builder, "CriteriaBuilder must not be null");
@@ -21,10 +21,16 @@ import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.metamodel.ManagedType;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+import org.springframework.core.SpringProperties;
 import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.ScrollPosition;
@@ -42,6 +48,7 @@ import org.springframework.data.repository.query.parser.Part.Type;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.util.Streamable;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * A {@link AbstractJpaQuery} implementation based on a {@link PartTree}.
@@ -58,11 +65,24 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 	private final PartTree tree;
 	private final JpaParameters parameters;
 
+	private static final int QUERY_SHAPE_CACHE_SIZE = 32;
+
+	/**
+	 * Maximum number of idle prepared queries retained per query shape.
+	 */
+	static final int MAX_IDLE_PREPARED_QUERIES = 4;
+
+	/**
+	 * System property to render derived queries as JPQL strings instead of creating them through the Criteria API.
+	 */
+	static final String RENDER_JPQL_PROPERTY = "spring.data.jpa.query.derived.render-jpql";
+
 	private final QueryPreparer query;
 	private final QueryPreparer countQuery;
 	private final EntityManager em;
 	private final EscapeCharacter escape;
 	private final JpaMetamodelEntityInformation<?, Object> entityInformation;
+	private final ManagedType<?> managedType;
 
 	/**
 	 * Creates a new {@link PartTreeJpaQuery}.
@@ -82,6 +102,20 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 	 * @param escape character used for escaping characters used as patterns in LIKE-expressions.
 	 */
 	PartTreeJpaQuery(JpaQueryMethod method, EntityManager em, EscapeCharacter escape) {
+		this(method, em, escape, SpringProperties.getFlag(RENDER_JPQL_PROPERTY));
+	}
+
+	/**
+	 * Creates a new {@link PartTreeJpaQuery}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param em must not be {@literal null}.
+	 * @param escape character used for escaping characters used as patterns in LIKE-expressions.
+	 * @param renderJpql whether to render queries as JPQL strings if the query can be expressed through
+	 *          {@link JpqlQueryCreator}. Falls back to the Criteria API otherwise.
+	 * @since 3.4
+	 */
+	PartTreeJpaQuery(JpaQueryMethod method, EntityManager em, EscapeCharacter escape, boolean renderJpql) {
 
 		super(method, em);
 
@@ -92,16 +126,27 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 		Class<?> domainClass = method.getEntityInformation().getJavaType();
 		PersistenceUnitUtil persistenceUnitUtil = em.getEntityManagerFactory().getPersistenceUnitUtil();
 		this.entityInformation = new JpaMetamodelEntityInformation<>(domainClass, em.getMetamodel(), persistenceUnitUtil);
+		this.managedType = em.getMetamodel().managedType(domainClass);
 
 		boolean recreationRequired = parameters.hasDynamicProjection() || parameters.potentiallySortsDynamically()
 				|| method.isScrollQuery();
 
+		// dynamic projections and keyset positions shape the query beyond null values and sorting
+		boolean shapeCacheable = !parameters.hasDynamicProjection() && !method.isScrollQuery();
+
 		try {
 
 			this.tree = new PartTree(method.getName(), domainClass);
 			validate(tree, parameters, method.toString());
-			this.countQuery = new CountQueryPreparer(recreationRequired);
-			this.query = tree.isCountProjection() ? countQuery : new QueryPreparer(recreationRequired);
+
+			// rendered queries are cached by shape and select the domain type or count it
+			boolean renderable = renderJpql && shapeCacheable && !tree.isExistsProjection()
+					&& JpqlQueryCreator.supports(tree, managedType);
+			boolean customConstruction = method.getResultProcessor().getReturnedType().needsCustomConstruction();
+
+			this.countQuery = new CountQueryPreparer(recreationRequired, shapeCacheable, renderable);
+			this.query = tree.isCountProjection() ? countQuery
+					: new QueryPreparer(recreationRequired, shapeCacheable, renderable && !customConstruction);
 
 		} catch (Exception o_O) {
 			throw new IllegalArgumentException(
@@ -208,22 +253,20 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 	 */
 	private class QueryPreparer {
 
-		private final @Nullable CriteriaQuery<?> cachedCriteriaQuery;
-		private final ReentrantLock lock = new ReentrantLock();
-		private final @Nullable ParameterBinder cachedParameterBinder;
+		private final @Nullable PreparedQueries cachedQueries;
+		private final @Nullable ConcurrentLruCache<QueryShape, PreparedQueries> shapeCache;
+		private final @Nullable ConcurrentLruCache<QueryShape, RenderedQuery> renderedQueries;
 		private final QueryParameterSetter.QueryMetadataCache metadataCache = new QueryParameterSetter.QueryMetadataCache();
+		private final QueryParameterSetter.QueryMetadataCache renderedMetadataCache = new QueryParameterSetter.QueryMetadataCache();
 
-		QueryPreparer(boolean recreateQueries) {
+		QueryPreparer(boolean recreateQueries, boolean shapeCacheable, boolean renderJpql) {
 
-			JpaQueryCreator creator = createCreator(null);
-
-			if (recreateQueries) {
-				this.cachedCriteriaQuery = null;
-				this.cachedParameterBinder = null;
-			} else {
-				this.cachedCriteriaQuery = creator.createQuery();
-				this.cachedParameterBinder = getBinder(creator.getParameterExpressions());
-			}
+			this.cachedQueries = recreateQueries ? null
+					: new PreparedQueries(() -> prepare(createCreator(null), Sort.unsorted()));
+			this.shapeCache = shapeCacheable
+					? new ConcurrentLruCache<>(QUERY_SHAPE_CACHE_SIZE, shape -> new PreparedQueries(() -> prepare(shape)))
+					: null;
+			this.renderedQueries = renderJpql ? new ConcurrentLruCache<>(QUERY_SHAPE_CACHE_SIZE, this::render) : null;
 		}
 
 		/**
@@ -231,27 +274,104 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 		 */
 		public Query createQuery(JpaParametersParameterAccessor accessor) {
 
-			CriteriaQuery<?> criteriaQuery = cachedCriteriaQuery;
-			ParameterBinder parameterBinder = cachedParameterBinder;
+			if (renderedQueries != null) {
+
+				Sort sort = getShapeSort(accessor);
+				QueryShape shape = JpqlQueryCreator.supports(sort, managedType) ? QueryShape.of(accessor, sort) : null;
 
-			if (cachedCriteriaQuery == null || accessor.hasBindableNullValue()) {
-				JpaQueryCreator creator = createCreator(accessor);
-				criteriaQuery = creator.createQuery(getDynamicSort(accessor));
-				List<ParameterMetadata<?>> expressions = creator.getParameterExpressions();
-				parameterBinder = getBinder(expressions);
+				if (shape != null) {
+
+					RenderedQuery rendered = renderedQueries.get(shape);
+					TypedQuery<?> query = getEntityManager().createQuery(rendered.query(), rendered.resultType());
+
+					return bind(query, rendered.parameterBinder(), accessor, renderedMetadataCache);
+				}
 			}
 
-			if (parameterBinder == null) {
-				throw new IllegalStateException("ParameterBinder is null");
+			PreparedQueries queries = cachedQueries;
+
+			if (queries == null || accessor.hasBindableNullValue()) {
+
+				QueryShape shape = shapeCache != null ? QueryShape.of(accessor, getShapeSort(accessor)) : null;
+				queries = shape != null ? shapeCache.get(shape) : null;
 			}
 
-			TypedQuery<?> query = createQuery(criteriaQuery);
+			if (queries == null) {
+				return createQuery(prepare(createCreator(accessor), getDynamicSort(accessor)), accessor);
+			}
+
+			PreparedQuery prepared = queries.acquire();
+
+			try {
+				return createQuery(prepared, accessor);
+			} finally {
+				queries.release(prepared);
+			}
+		}
+
+		/**
+		 * Returns the {@link Sort} that contributes to the {@link QueryShape} for the given arguments.
+		 */
+		protected Sort getShapeSort(JpaParametersParameterAccessor accessor) {
+			return getDynamicSort(accessor);
+		}
+
+		private Query createQuery(PreparedQuery prepared, JpaParametersParameterAccessor accessor) {
+
+			TypedQuery<?> query = getEntityManager().createQuery(prepared.criteriaQuery());
+			return bind(query, prepared.parameterBinder(), accessor, this.metadataCache);
+		}
+
+		private Query bind(TypedQuery<?> query, ParameterBinder binder, JpaParametersParameterAccessor accessor,
+				QueryParameterSetter.QueryMetadataCache metadataCache) {
 
 			ScrollPosition scrollPosition = accessor.getParameters().hasScrollPositionParameter()
 					? accessor.getScrollPosition()
 					: null;
-			return restrictMaxResultsIfNecessary(invokeBinding(parameterBinder, query, accessor, this.metadataCache),
-					scrollPosition);
+			return restrictMaxResultsIfNecessary(invokeBinding(binder, query, accessor, metadataCache), scrollPosition);
+		}
+
+		/**
+		 * Creates the {@link CriteriaQuery} and {@link ParameterBinder} for a {@link QueryShape} using placeholder values
+		 * that are {@literal null} wherever the shape has a {@literal null} argument.
+		 */
+		private PreparedQuery prepare(QueryShape shape) {
+			return prepare(createCreatorWith(createProvider(shape)), shape.sort());
+		}
+
+		/**
+		 * Renders the JPQL query and creates its {@link ParameterBinder} for a {@link QueryShape}.
+		 */
+		private RenderedQuery render(QueryShape shape) {
+
+			JpqlQueryCreator creator = createJpqlCreator(createProvider(shape));
+			String query = creator.createQuery(shape.sort());
+
+			return new RenderedQuery(query, creator.getResultType(),
+					ParameterBinderFactory.createJpqlBinder(parameters, creator.getParameterExpressions()));
+		}
+
+		/**
+		 * Creates a {@link ParameterMetadataProvider} using placeholder values that are {@literal null} wherever the shape
+		 * has a {@literal null} argument.
+		 */
+		private ParameterMetadataProvider createProvider(QueryShape shape) {
+
+			int bindableParameters = parameters.getBindableParameters().getNumberOfParameters();
+			List<Object> values = new ArrayList<>(bindableParameters);
+
+			for (int i = 0; i < bindableParameters; i++) {
+				values.add(shape.isNull(i) ? null : ParameterMetadata.PLACEHOLDER);
+			}
+
+			CriteriaBuilder builder = getEntityManager().getCriteriaBuilder();
+			return new ParameterMetadataProvider(builder, values.iterator(), parameters, escape);
+		}
+
+		private PreparedQuery prepare(JpaQueryCreator creator, Sort sort) {
+
+			CriteriaQuery<?> criteriaQuery = creator.createQuery(sort);
+			return new PreparedQuery(criteriaQuery, getBinder(creator.getParameterExpressions()));
 		}
 
 		/**
@@ -289,27 +409,6 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 			return query;
 		}
 
-		/**
-		 * Checks whether we are working with a cached {@link CriteriaQuery} and synchronizes the creation of a
-		 * {@link TypedQuery} instance from it. This is due to non-thread-safety in the {@link CriteriaQuery} implementation
-		 * of some persistence providers (i.e. Hibernate in this case), see DATAJPA-396.
-		 *
-		 * @param criteriaQuery must not be {@literal null}.
-		 */
-		private TypedQuery<?> createQuery(CriteriaQuery<?> criteriaQuery) {
-
-			if (this.cachedCriteriaQuery != null) {
-				lock.lock();
-				try {
-					return getEntityManager().createQuery(criteriaQuery);
-				} finally {
-					lock.unlock();
-				}
-			}
-
-			return getEntityManager().createQuery(criteriaQuery);
-		}
-
 		protected JpaQueryCreator createCreator(@Nullable JpaParametersParameterAccessor accessor) {
 
 			EntityManager entityManager = getEntityManager();
@@ -335,6 +434,25 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 			return new JpaQueryCreator(tree, returnedType, builder, provider);
 		}
 
+		/**
+		 * Creates a {@link JpaQueryCreator} for the static return type using the given {@link ParameterMetadataProvider}.
+		 */
+		protected JpaQueryCreator createCreatorWith(ParameterMetadataProvider provider) {
+
+			CriteriaBuilder builder = getEntityManager().getCriteriaBuilder();
+			ReturnedType returnedType = getQueryMethod().getResultProcessor().getReturnedType();
+
+			return new JpaQueryCreator(tree, returnedType, builder, provider);
+		}
+
+		/**
+		 * Creates a {@link JpqlQueryCreator} rendering a query for the domain type using the given
+		 * {@link ParameterMetadataProvider}.
+		 */
+		protected JpqlQueryCreator createJpqlCreator(ParameterMetadataProvider provider) {
+			return new JpqlQueryCreator(tree, entityInformation.getEntityName(), managedType, provider, false);
+		}
+
 		/**
 		 * Invokes parameter binding on the given {@link TypedQuery}.
 		 */
@@ -366,8 +484,16 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 	 */
 	private class CountQueryPreparer extends QueryPreparer {
 
-		CountQueryPreparer(boolean recreateQueries) {
-			super(recreateQueries);
+		CountQueryPreparer(boolean recreateQueries, boolean shapeCacheable, boolean renderJpql) {
+			super(recreateQueries, shapeCacheable, renderJpql);
+		}
+
+		/**
+		 * Count queries ignore sorting, shapes are therefore determined by {@literal null} arguments only.
+		 */
+		@Override
+		protected Sort getShapeSort(JpaParametersParameterAccessor accessor) {
+			return Sort.unsorted();
 		}
 
 		@Override
@@ -384,9 +510,22 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 				provider = new ParameterMetadataProvider(builder, parameters, escape);
 			}
 
+			return createCreatorWith(provider);
+		}
+
+		@Override
+		protected JpaQueryCreator createCreatorWith(ParameterMetadataProvider provider) {
+
+			CriteriaBuilder builder = getEntityManager().getCriteriaBuilder();
+
 			return new JpaCountQueryCreator(tree, getQueryMethod().getResultProcessor().getReturnedType(), builder, provider);
 		}
 
+		@Override
+		protected JpqlQueryCreator createJpqlCreator(ParameterMetadataProvider provider) {
+			return new JpqlQueryCreator(tree, entityInformation.getEntityName(), managedType, provider, true);
+		}
+
 		/**
 		 * Customizes binding by skipping the pagination.
 		 */
@@ -399,4 +538,113 @@ public class PartTreeJpaQuery extends AbstractJpaQuery {
 			return binder.bind(query, metadata, accessor);
 		}
 	}
+
+	/**
+	 * Shape of a query determined by the {@literal null} arguments of bindable parameters and the dynamic {@link Sort}.
+	 *
+	 * @param nullMask bit mask of bindable parameters with {@literal null} arguments.
+	 * @param sort the dynamic sort.
+	 * @since 3.4
+	 */
+	private record QueryShape(long nullMask, Sort sort) {
+
+		/**
+		 * Creates the {@link QueryShape} for the given arguments or {@literal null} if the number of bindable parameters
+		 * exceeds the capacity of the mask.
+		 */
+		@Nullable
+		static QueryShape of(JpaParametersParameterAccessor accessor, Sort sort) {
+
+			long nullMask = 0;
+			int index = 0;
+
+			for (Object value : accessor) {
+
+				if (index == Long.SIZE) {
+					return null;
+				}
+
+				if (value == null) {
+					nullMask |= 1L << index;
+				}
+
+				index++;
+			}
+
+			return new QueryShape(nullMask, sort);
+		}
+
+		boolean isNull(int index) {
+			return (nullMask & (1L << index)) != 0;
+		}
+	}
+
+	/**
+	 * Prepared {@link CriteriaQuery} along with its {@link ParameterBinder}.
+	 *
+	 * @since 3.4
+	 */
+	private record PreparedQuery(CriteriaQuery<?> criteriaQuery, ParameterBinder parameterBinder) {
+	}
+
+	/**
+	 * Rendered JPQL query along with its result type and {@link ParameterBinder}.
+	 *
+	 * @since 3.4
+	 */
+	private record RenderedQuery(String query, Class<?> resultType, ParameterBinder parameterBinder) {
+	}
+
+	/**
+	 * Pool of interchangeable {@link PreparedQuery} instances of the same shape. Creating a {@link TypedQuery} from a
+	 * {@link CriteriaQuery} is not thread-safe in some persistence providers (i.e. Hibernate in this case), see
+	 * DATAJPA-396, so each instance is used by a single thread at a time. Instead of waiting for an instance in use,
+	 * concurrent callers prepare an additional instance so that the pool grows to the level of concurrency without
+	 * blocking. At most {@link #MAX_IDLE_PREPARED_QUERIES} idle instances are retained to bound the memory held by
+	 * each shape, further instances are discarded when released.
+	 *
+	 * @since 3.4
+	 */
+	private static class PreparedQueries {
+
+		private final Supplier<PreparedQuery> factory;
+		private final Queue<PreparedQuery> idle = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger idleCount = new AtomicInteger();
+
+		PreparedQueries(Supplier<PreparedQuery> factory) {
+
+			this.factory = factory;
+
+			// prepare eagerly to surface invalid queries early
+			release(factory.get());
+		}
+
+		/**
+		 * Obtains an idle {@link PreparedQuery} for exclusive use or prepares a new one if all instances are in use.
+		 */
+		PreparedQuery acquire() {
+
+			PreparedQuery prepared = idle.poll();
+
+			if (prepared == null) {
+				return factory.get();
+			}
+
+			idleCount.decrementAndGet();
+			return prepared;
+		}
+
+		/**
+		 * Returns a {@link PreparedQuery} obtained through {@link #acquire()} to the pool.
+		 */
+		void release(PreparedQuery prepared) {
+
+			if (idleCount.incrementAndGet() > MAX_IDLE_PREPARED_QUERIES) {
+				idleCount.decrementAndGet();
+				return;
+			}
+
+			idle.offer(prepared);
+		}
+	}
 }
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Metadata of declared JPQL queries computed ahead of time. During AOT processing, {@link #render(RepositoryInformation)}
+ * parses the {@link org.springframework.data.jpa.repository.Query @Query} declarations of a repository and captures
+ * their alias, projection, constructor expression and derived count query in a resource located through
+ * {@link #getResourceLocation(Class)}. At runtime, {@link #register(Class)} loads that resource once per repository
+ * interface so that {@link QueryEnhancerFactory} can serve the captured metadata without parsing the query. Queries
+ * are parsed lazily when sorting requires a parse tree.
+ * <p>
+ * Captured metadata is keyed by the query string, so queries changed after AOT processing are parsed as usual.
+ * Registered metadata is retained until the application context is closed.
+ *
+ * @author agent
+ * @since 3.4
+ */
+public final class PrecomputedQueries {
+
+	private static final Log LOG = LogFactory.getLog(PrecomputedQueries.class);
+
+	private static final String RESOURCE_LOCATION = "META-INF/spring-data/jpa/queries/%s.properties";
+	private static final String QUERY = "query.";
+
+	private static final Map<String, PrecomputedQuery> QUERIES = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, Boolean> REGISTERED = new ConcurrentHashMap<>();
+
+	private PrecomputedQueries() {}
+
+	/**
+	 * Returns the classpath location of the resource holding the precomputed queries of the given repository interface.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @return the resource location.
+	 */
+	public static String getResourceLocation(Class<?> repositoryInterface) {
+		return RESOURCE_LOCATION.formatted(repositoryInterface.getName());
+	}
+
+	/**
+	 * Parses all declared JPQL queries of the given repository and renders their metadata in {@link Properties} format.
+	 * Native queries and methods whose query cannot be parsed are skipped.
+	 *
+	 * @param repositoryInformation must not be {@literal null}.
+	 * @return the rendered metadata or {@literal null} if the repository does not declare any JPQL queries.
+	 */
+	@Nullable
+	public static String render(RepositoryInformation repositoryInformation) {
+
+		Properties properties = new Properties();
+		SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+		ValueExpressionDelegate delegate = ValueExpressionDelegate.create();
+
+		for (Method method : repositoryInformation.getQueryMethods()) {
+
+			try {
+
+				JpaQueryMethod queryMethod = new JpaQueryMethod(method, repositoryInformation, projectionFactory,
+						PersistenceProvider.GENERIC_JPA);
+
+				if (queryMethod.isNativeQuery() || !StringUtils.hasText(queryMethod.getAnnotatedQuery())) {
+					continue;
+				}
+
+				String countQueryProjection = queryMethod.getCountQueryProjection();
+				StringQuery query = new ExpressionBasedStringQuery(queryMethod.getRequiredAnnotatedQuery(),
+						queryMethod.getEntityInformation(), delegate, false);
+
+				DeclaredQuery countQuery = StringUtils.hasText(queryMethod.getCountQuery())
+						? new ExpressionBasedStringQuery(queryMethod.getCountQuery(), queryMethod.getEntityInformation(), delegate,
+								false)
+						: query.deriveCountQuery(countQueryProjection);
+
+				add(properties, query, countQueryProjection, true);
+				add(properties, countQuery, null, false);
+			} catch (RuntimeException o_O) {
+
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("Cannot precompute query for method %s".formatted(method), o_O);
+				}
+			}
+		}
+
+		if (properties.isEmpty()) {
+			return null;
+		}
+
+		StringWriter writer = new StringWriter();
+
+		try {
+			properties.store(writer, "Precomputed queries of " + repositoryInformation.getRepositoryInterface().getName());
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+
+		return writer.toString();
+	}
+
+	/**
+	 * Registers the precomputed queries of the given repository interface if present. Resources are loaded only once
+	 * per repository interface.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 */
+	static void register(Class<?> repositoryInterface) {
+		register(repositoryInterface, repositoryInterface.getClassLoader() != null ? repositoryInterface.getClassLoader()
+				: ClassUtils.getDefaultClassLoader());
+	}
+
+	/**
+	 * Registers the precomputed queries of the given repository interface loading the resource from the given
+	 * {@link ClassLoader}.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param classLoader the {@link ClassLoader} to load the resource from, can be {@literal null}.
+	 */
+	static void register(Class<?> repositoryInterface, @Nullable ClassLoader classLoader) {
+		REGISTERED.computeIfAbsent(repositoryInterface, it -> load(it, classLoader));
+	}
+
+	/**
+	 * Clears all registered precomputed queries. Repository interfaces registered afterwards load their resources
+	 * again.
+	 */
+	static void clear() {
+
+		REGISTERED.clear();
+		QUERIES.clear();
+	}
+
+	/**
+	 * Returns a {@link QueryEnhancer} serving precomputed metadata for the given {@link DeclaredQuery}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return the {@link QueryEnhancer} or {@literal null} if the query was not precomputed.
+	 */
+	@Nullable
+	static QueryEnhancer getQueryEnhancer(DeclaredQuery query) {
+
+		if (QUERIES.isEmpty() || query.isNativeQuery()) {
+			return null;
+		}
+
+		PrecomputedQuery precomputed = QUERIES.get(query.getQueryString());
+
+		return precomputed != null && precomputed.dialect().equals(getDialect())
+				? new PrecomputedQueryEnhancer(query, precomputed)
+				: null;
+	}
+
+	private static void add(Properties properties, DeclaredQuery query, @Nullable String countProjection,
+			boolean deriveCountQuery) {
+
+		String queryString = query.getQueryString();
+		int index = 0;
+
+		for (; properties.containsKey(QUERY + index); index++) {
+			if (queryString.equals(properties.getProperty(QUERY + index))) {
+				return;
+			}
+		}
+
+		QueryEnhancer enhancer = QueryEnhancerFactory.getJpqlQueryEnhancer(query);
+		String prefix = QUERY + index;
+
+		properties.setProperty(prefix, queryString);
+		properties.setProperty(prefix + ".dialect", getDialect());
+		properties.setProperty(prefix + ".projection", enhancer.getProjection());
+		properties.setProperty(prefix + ".constructor-expression", Boolean.toString(enhancer.hasConstructorExpression()));
+
+		String alias = enhancer.detectAlias();
+
+		if (alias != null) {
+			properties.setProperty(prefix + ".alias", alias);
+		}
+
+		if (deriveCountQuery) {
+
+			properties.setProperty(prefix + ".count-query", enhancer.createCountQueryFor(countProjection));
+
+			if (countProjection != null) {
+				properties.setProperty(prefix + ".count-projection", countProjection);
+			}
+		}
+	}
+
+	private static boolean load(Class<?> repositoryInterface, @Nullable ClassLoader classLoader) {
+
+		if (classLoader == null) {
+			return false;
+		}
+
+		Properties properties = new Properties();
+
+		try (InputStream stream = classLoader.getResourceAsStream(getResourceLocation(repositoryInterface))) {
+
+			if (stream == null) {
+				return false;
+			}
+
+			properties.load(stream);
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(
+					"Cannot load precomputed queries of %s".formatted(repositoryInterface.getName()), o_O);
+		}
+
+		for (int i = 0; properties.containsKey(QUERY + i); i++) {
+
+			String prefix = QUERY + i;
+
+			QUERIES.put(properties.getProperty(prefix), new PrecomputedQuery(properties.getProperty(prefix + ".dialect"),
+					properties.getProperty(prefix + ".alias"), properties.getProperty(prefix + ".projection"),
+					Boolean.parseBoolean(properties.getProperty(prefix + ".constructor-expression")),
+					properties.getProperty(prefix + ".count-projection"), properties.getProperty(prefix + ".count-query")));
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the query dialect selected by {@link QueryEnhancerFactory} for JPQL queries.
+	 */
+	private static String getDialect() {
+
+		if (PersistenceProvider.HIBERNATE.isPresent()) {
+			return "hql";
+		}
+
+		return PersistenceProvider.ECLIPSELINK.isPresent() ? "eql" : "jpql";
+	}
+
+	/**
+	 * Precomputed metadata of a single query.
+	 */
+	record PrecomputedQuery(String dialect, @Nullable String alias, String projection, boolean constructorExpression,
+			@Nullable String countProjection, @Nullable String countQuery) {
+	}
+
+	/**
+	 * {@link QueryEnhancer} serving precomputed metadata and parsing the query only when required.
+	 */
+	static class PrecomputedQueryEnhancer implements QueryEnhancer {
+
+		private final DeclaredQuery query;
+		private final PrecomputedQuery precomputed;
+		private final Lazy<QueryEnhancer> delegate;
+
+		PrecomputedQueryEnhancer(DeclaredQuery query, PrecomputedQuery precomputed) {
+
+			this.query = query;
+			this.precomputed = precomputed;
+			this.delegate = Lazy.of(() -> QueryEnhancerFactory.getJpqlQueryEnhancer(query));
+		}
+
+		@Override
+		public boolean hasConstructorExpression() {
+			return precomputed.constructorExpression();
+		}
+
+		@Nullable
+		@Override
+		public String detectAlias() {
+			return precomputed.alias();
+		}
+
+		@Override
+		public String getProjection() {
+			return precomputed.projection();
+		}
+
+		@Override
+		@SuppressWarnings("removal")
+		public Set<String> getJoinAliases() {
+			return delegate.get().getJoinAliases();
+		}
+
+		@Override
+		@SuppressWarnings("removal")
+		public DeclaredQuery getQuery() {
+			return query;
+		}
+
+		@Override
+		public String applySorting(Sort sort) {
+			return delegate.get().applySorting(sort);
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public String applySorting(Sort sort, @Nullable String alias) {
+			return delegate.get().applySorting(sort, alias);
+		}
+
+		@Override
+		public String createCountQueryFor(@Nullable String countProjection) {
+
+			String countQuery = precomputed.countQuery();
+
+			return countQuery != null && ObjectUtils.nullSafeEquals(countProjection, precomputed.countProjection()) //
+					? countQuery //
+					: delegate.get().createCountQueryFor(countProjection);
+		}
+	}
+}
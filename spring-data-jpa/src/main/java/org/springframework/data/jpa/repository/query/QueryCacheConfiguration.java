@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of caches used by repository query methods. A {@link QueryCacheConfiguration} is shared across all
+ * query methods of a repository factory so that cache {@link QueryCacheMetrics metrics} are reported per repository.
+ * Sorted query strings are retained in a single cache shared by all query methods using this configuration.
+ *
+ * @author agent
+ * @since 3.4
+ */
+public final class QueryCacheConfiguration {
+
+	/**
+	 * Default number of query metadata entries retained per query method.
+	 */
+	public static final int DEFAULT_METADATA_CACHE_SIZE = 16;
+
+	/**
+	 * Default number of sorted query strings retained across all query methods.
+	 */
+	public static final int DEFAULT_SORTED_QUERY_CACHE_SIZE = 256;
+
+	private final int metadataCacheSize;
+	private final int sortedQueryCacheSize;
+	private final QueryCacheMetrics metadataCacheMetrics;
+	private final QueryCacheMetrics sortedQueryCacheMetrics;
+	private final SortedQueryCache sortedQueryCache;
+
+	private QueryCacheConfiguration(int metadataCacheSize, int sortedQueryCacheSize,
+			QueryCacheMetrics metadataCacheMetrics, QueryCacheMetrics sortedQueryCacheMetrics) {
+
+		Assert.isTrue(metadataCacheSize > 0, "Metadata cache size must be greater than zero");
+		Assert.isTrue(sortedQueryCacheSize > 0, "Sorted query cache size must be greater than zero");
+
+		this.metadataCacheSize = metadataCacheSize;
+		this.sortedQueryCacheSize = sortedQueryCacheSize;
+		this.metadataCacheMetrics = metadataCacheMetrics;
+		this.sortedQueryCacheMetrics = sortedQueryCacheMetrics;
+		this.sortedQueryCache = new SortedQueryCache(sortedQueryCacheSize, sortedQueryCacheMetrics);
+	}
+
+	/**
+	 * Create a new {@link QueryCacheConfiguration} using default settings.
+	 *
+	 * @return a new {@link QueryCacheConfiguration}.
+	 */
+	public static QueryCacheConfiguration create() {
+		return new QueryCacheConfiguration(DEFAULT_METADATA_CACHE_SIZE, DEFAULT_SORTED_QUERY_CACHE_SIZE,
+				new QueryCacheMetrics(), new QueryCacheMetrics());
+	}
+
+	/**
+	 * Create a new {@link QueryCacheConfiguration} retaining up to {@code metadataCacheSize} query metadata entries per
+	 * query method. The new configuration reports to the same {@link QueryCacheMetrics} as this configuration.
+	 *
+	 * @param metadataCacheSize must be greater than zero.
+	 * @return a new {@link QueryCacheConfiguration}.
+	 */
+	public QueryCacheConfiguration withMetadataCacheSize(int metadataCacheSize) {
+		return new QueryCacheConfiguration(metadataCacheSize, sortedQueryCacheSize, metadataCacheMetrics,
+				sortedQueryCacheMetrics);
+	}
+
+	/**
+	 * Create a new {@link QueryCacheConfiguration} retaining up to {@code sortedQueryCacheSize} sorted query strings
+	 * across all query methods. The new configuration reports to the same {@link QueryCacheMetrics} as this
+	 * configuration.
+	 *
+	 * @param sortedQueryCacheSize must be greater than zero.
+	 * @return a new {@link QueryCacheConfiguration}.
+	 */
+	public QueryCacheConfiguration withSortedQueryCacheSize(int sortedQueryCacheSize) {
+		return new QueryCacheConfiguration(metadataCacheSize, sortedQueryCacheSize, metadataCacheMetrics,
+				sortedQueryCacheMetrics);
+	}
+
+	/**
+	 * @return the maximum number of query metadata entries retained per query method.
+	 */
+	public int getMetadataCacheSize() {
+		return metadataCacheSize;
+	}
+
+	/**
+	 * @return the maximum number of sorted query strings retained across all query methods.
+	 */
+	public int getSortedQueryCacheSize() {
+		return sortedQueryCacheSize;
+	}
+
+	/**
+	 * @return metrics of all query metadata caches created through this configuration.
+	 */
+	public QueryCacheMetrics getMetadataCacheMetrics() {
+		return metadataCacheMetrics;
+	}
+
+	/**
+	 * @return metrics of the shared sorted query cache.
+	 */
+	public QueryCacheMetrics getSortedQueryCacheMetrics() {
+		return sortedQueryCacheMetrics;
+	}
+
+	/**
+	 * Create a new {@link QueryParameterSetter.QueryMetadataCache} according to this configuration.
+	 *
+	 * @return a new {@link QueryParameterSetter.QueryMetadataCache}.
+	 */
+	QueryParameterSetter.QueryMetadataCache createMetadataCache() {
+		return new QueryParameterSetter.QueryMetadataCache(metadataCacheSize, metadataCacheMetrics);
+	}
+
+	/**
+	 * @return the sorted query cache shared across all query methods using this configuration.
+	 */
+	SortedQueryCache getSortedQueryCache() {
+		return sortedQueryCache;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters reporting the effectiveness of caches used during query execution. Counters are monotonically increasing
+ * and can be exposed through a metrics library, e.g. as Micrometer {@code FunctionCounter}.
+ *
+ * @author agent
+ * @since 3.4
+ */
+public final class QueryCacheMetrics {
+
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	void recordRequest() {
+		requests.increment();
+	}
+
+	void recordMiss() {
+		misses.increment();
+	}
+
+	void recordEviction() {
+		evictions.increment();
+	}
+
+	/**
+	 * @return the number of cache lookups that returned a cached value.
+	 */
+	public long getHits() {
+		return Math.max(0, requests.sum() - misses.sum());
+	}
+
+	/**
+	 * @return the number of cache lookups that required computing a new value.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of entries removed from the cache to satisfy its size bound.
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "QueryCacheMetrics[hits=%d, misses=%d, evictions=%d]".formatted(getHits(), getMisses(), getEvictions());
+	}
+}
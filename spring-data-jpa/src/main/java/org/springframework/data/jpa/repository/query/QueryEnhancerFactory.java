@@ -64,6 +64,19 @@ public final class QueryEnhancerFactory {
 			return getNativeQueryEnhancer(query);
 		}
 
+		QueryEnhancer precomputed = PrecomputedQueries.getQueryEnhancer(query);
+
+		return precomputed != null ? precomputed : getJpqlQueryEnhancer(query);
+	}
+
+	/**
+	 * Get the JPQL query enhancer for the given {@link DeclaredQuery query} matching the persistence provider.
+	 *
+	 * @param query the declared query.
+	 * @return new instance of {@link QueryEnhancer}.
+	 */
+	static QueryEnhancer getJpqlQueryEnhancer(DeclaredQuery query) {
+
 		if (PersistenceProvider.HIBERNATE.isPresent()) {
 			return JpaQueryEnhancer.forHql(query);
 		} else if (PersistenceProvider.ECLIPSELINK.isPresent()) {
@@ -23,11 +23,11 @@ import jakarta.persistence.TemporalType;
 import jakarta.persistence.criteria.ParameterExpression;
 
 import java.lang.reflect.Proxy;
-import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
@@ -52,12 +52,18 @@ interface QueryParameterSetter {
 
 	/**
 	 * {@link QueryParameterSetter} for named or indexed parameters that might have a {@link TemporalType} specified.
+	 * <p>
+	 * The binding target (parameter expression, name or position) is resolved once when creating the setter so that
+	 * binding a parameter does not need to inspect the {@link Parameter} or allocate intermediate callbacks.
 	 */
 	class NamedOrIndexedQueryParameterSetter implements QueryParameterSetter {
 
 		private final Function<JpaParametersParameterAccessor, Object> valueExtractor;
 		private final Parameter<?> parameter;
 		private final @Nullable TemporalType temporalType;
+		private final boolean parameterExpression;
+		private final @Nullable String name;
+		private final @Nullable Integer position;
 
 		/**
 		 * @param valueExtractor must not be {@literal null}.
@@ -72,63 +78,72 @@ interface QueryParameterSetter {
 			this.valueExtractor = valueExtractor;
 			this.parameter = parameter;
 			this.temporalType = temporalType;
+			this.parameterExpression = parameter instanceof ParameterExpression;
+			this.name = parameter.getName();
+			this.position = parameter.getPosition();
 		}
 
-		@SuppressWarnings("unchecked")
 		@Override
 		public void setParameter(BindableQuery query, JpaParametersParameterAccessor accessor,
 				ErrorHandling errorHandling) {
 
-			if (temporalType != null) {
-
-				Object extractedValue = valueExtractor.apply(accessor);
+			Object value = valueExtractor.apply(accessor);
 
-				Date value = (Date) accessor.potentiallyUnwrap(extractedValue);
+			if (temporalType != null) {
 
 				// One would think we can simply use parameter to identify the parameter we want to set.
 				// But that does not work with list valued parameters. At least Hibernate tries to bind them by name.
 				// TODO: move to using setParameter(Parameter, value) when https://hibernate.atlassian.net/browse/HHH-11870 is
 				// fixed.
 
-				if (parameter instanceof ParameterExpression) {
-					errorHandling.execute(() -> query.setParameter((Parameter<Date>) parameter, value, temporalType));
-				} else if (query.hasNamedParameters() && parameter.getName() != null) {
-					errorHandling.execute(() -> query.setParameter(parameter.getName(), value, temporalType));
-				} else {
+				setTemporalParameter(query, (Date) accessor.potentiallyUnwrap(value), temporalType, errorHandling);
+			} else {
+				setParameter(query, value, errorHandling);
+			}
+		}
 
-					Integer position = parameter.getPosition();
+		@SuppressWarnings("unchecked")
+		private void setTemporalParameter(BindableQuery query, Date value, TemporalType temporalType,
+				ErrorHandling errorHandling) {
 
-					if (position != null //
-							&& (query.getParameters().size() >= parameter.getPosition() //
-									|| query.registerExcessParameters() //
-									|| errorHandling == LENIENT)) {
+			try {
 
-						errorHandling.execute(() -> query.setParameter(parameter.getPosition(), value, temporalType));
-					}
+				if (parameterExpression) {
+					query.setParameter((Parameter<Date>) parameter, value, temporalType);
+				} else if (name != null && query.hasNamedParameters()) {
+					query.setParameter(name, value, temporalType);
+				} else if (isBindablePosition(query, errorHandling)) {
+					query.setParameter(position, value, temporalType);
 				}
+			} catch (RuntimeException ex) {
+				errorHandling.handle(ex);
+			}
+		}
 
-			} else {
-
-				Object value = valueExtractor.apply(accessor);
-
-				if (parameter instanceof ParameterExpression) {
-					errorHandling.execute(() -> query.setParameter((Parameter<Object>) parameter, value));
-				} else if (query.hasNamedParameters() && parameter.getName() != null) {
-					errorHandling.execute(() -> query.setParameter(parameter.getName(), value));
-
-				} else {
+		@SuppressWarnings("unchecked")
+		private void setParameter(BindableQuery query, @Nullable Object value, ErrorHandling errorHandling) {
 
-					Integer position = parameter.getPosition();
+			try {
 
-					if (position != null //
-							&& (query.getParameters().size() >= position //
-									|| errorHandling == LENIENT //
-									|| query.registerExcessParameters())) {
-						errorHandling.execute(() -> query.setParameter(position, value));
-					}
+				if (parameterExpression) {
+					query.setParameter((Parameter<Object>) parameter, value);
+				} else if (name != null && query.hasNamedParameters()) {
+					query.setParameter(name, value);
+				} else if (isBindablePosition(query, errorHandling)) {
+					query.setParameter(position, value);
 				}
+			} catch (RuntimeException ex) {
+				errorHandling.handle(ex);
 			}
 		}
+
+		private boolean isBindablePosition(BindableQuery query, ErrorHandling errorHandling) {
+
+			return position != null //
+					&& (query.getParameterCount() >= position //
+							|| errorHandling == LENIENT //
+							|| query.registerExcessParameters());
+		}
 	}
 
 	enum ErrorHandling {
@@ -136,35 +151,62 @@ interface QueryParameterSetter {
 		STRICT {
 
 			@Override
-			public void execute(Runnable block) {
-				block.run();
+			void handle(RuntimeException ex) {
+				throw ex;
 			}
 		},
 
 		LENIENT {
 
 			@Override
-			public void execute(Runnable block) {
-
-				try {
-					block.run();
-				} catch (RuntimeException rex) {
-					LOG.info("Silently ignoring", rex);
-				}
+			void handle(RuntimeException ex) {
+				LOG.info("Silently ignoring", ex);
 			}
 		};
 
 		private static final Log LOG = LogFactory.getLog(ErrorHandling.class);
 
-		abstract void execute(Runnable block);
+		/**
+		 * Handle a {@link RuntimeException} raised while binding a parameter.
+		 *
+		 * @param ex the exception raised during binding.
+		 */
+		abstract void handle(RuntimeException ex);
+
+		public void execute(Runnable block) {
+
+			try {
+				block.run();
+			} catch (RuntimeException ex) {
+				handle(ex);
+			}
+		}
 	}
 
 	/**
-	 * Cache for {@link QueryMetadata}. Optimizes for small cache sizes on a best-effort basis.
+	 * Bounded cache for {@link QueryMetadata}. Lookups are lock-free, cache keys are expected to be a compact identity of
+	 * the query variant (e.g. a constant or the {@link org.springframework.data.domain.Sort} used to render the query)
+	 * rather than the rendered query string. Entries exceeding the configured capacity are evicted on a best-effort
+	 * basis.
 	 */
 	class QueryMetadataCache {
 
-		private Map<String, QueryMetadata> cache = Collections.emptyMap();
+		private final int capacity;
+		private final QueryCacheMetrics metrics;
+		private final Map<Object, QueryMetadata> cache = new ConcurrentHashMap<>();
+
+		QueryMetadataCache() {
+			this(QueryCacheConfiguration.DEFAULT_METADATA_CACHE_SIZE, new QueryCacheMetrics());
+		}
+
+		QueryMetadataCache(int capacity, QueryCacheMetrics metrics) {
+
+			Assert.isTrue(capacity > 0, "Capacity must be greater than zero");
+			Assert.notNull(metrics, "QueryCacheMetrics must not be null");
+
+			this.capacity = capacity;
+			this.metrics = metrics;
+		}
 
 		/**
 		 * Retrieve the {@link QueryMetadata} for a given {@code cacheKey}.
@@ -173,29 +215,50 @@ interface QueryParameterSetter {
 		 * @param query
 		 * @return
 		 */
-		public QueryMetadata getMetadata(String cacheKey, Query query) {
+		public QueryMetadata getMetadata(Object cacheKey, Query query) {
+
+			metrics.recordRequest();
 
 			QueryMetadata queryMetadata = cache.get(cacheKey);
 
-			if (queryMetadata == null) {
+			if (queryMetadata != null) {
+				return queryMetadata;
+			}
 
-				queryMetadata = new QueryMetadata(query);
+			metrics.recordMiss();
+			queryMetadata = new QueryMetadata(query);
 
-				Map<String, QueryMetadata> cache;
+			QueryMetadata existing = cache.putIfAbsent(cacheKey, queryMetadata);
 
-				if (this.cache.isEmpty()) {
-					cache = Collections.singletonMap(cacheKey, queryMetadata);
-				} else {
-					cache = new HashMap<>(this.cache);
-					cache.put(cacheKey, queryMetadata);
-				}
+			if (existing != null) {
+				return existing;
+			}
+
+			evictIfNecessary(cacheKey);
 
-				synchronized (this) {
-					this.cache = cache;
+			return queryMetadata;
+		}
+
+		private void evictIfNecessary(Object retain) {
+
+			if (cache.size() <= capacity) {
+				return;
+			}
+
+			Iterator<Object> iterator = cache.keySet().iterator();
+
+			while (cache.size() > capacity && iterator.hasNext()) {
+
+				Object key = iterator.next();
+
+				if (!key.equals(retain) && cache.remove(key) != null) {
+					metrics.recordEviction();
 				}
 			}
+		}
 
-			return queryMetadata;
+		int size() {
+			return cache.size();
 		}
 	}
 
@@ -206,12 +269,14 @@ interface QueryParameterSetter {
 
 		private final boolean namedParameters;
 		private final Set<Parameter<?>> parameters;
+		private final int parameterCount;
 		private final boolean registerExcessParameters;
 
 		QueryMetadata(Query query) {
 
 			this.namedParameters = QueryUtils.hasNamedParameter(query);
 			this.parameters = query.getParameters();
+			this.parameterCount = parameters.size();
 
 			// DATAJPA-1172
 			// Since EclipseLink doesn't reliably report whether a query has parameters
@@ -220,7 +285,7 @@ interface QueryParameterSetter {
 			// parameters in the query.
 			// https://bugs.eclipse.org/bugs/show_bug.cgi?id=521915
 
-			this.registerExcessParameters = query.getParameters().size() == 0
+			this.registerExcessParameters = parameterCount == 0
 					&& unwrapClass(query).getName().startsWith("org.eclipse");
 		}
 
@@ -228,6 +293,7 @@ interface QueryParameterSetter {
 
 			this.namedParameters = metadata.namedParameters;
 			this.parameters = metadata.parameters;
+			this.parameterCount = metadata.parameterCount;
 			this.registerExcessParameters = metadata.registerExcessParameters;
 		}
 
@@ -248,6 +314,13 @@ interface QueryParameterSetter {
 			return parameters;
 		}
 
+		/**
+		 * @return the number of parameters declared by the underlying query.
+		 */
+		int getParameterCount() {
+			return parameterCount;
+		}
+
 		/**
 		 * @return {@literal true} if the underlying query uses named parameters.
 		 */
@@ -78,7 +78,25 @@ abstract class QueryParameterSetterFactory {
 		Assert.notNull(parameters, "JpaParameters must not be null");
 		Assert.notNull(metadata, "ParameterMetadata must not be null");
 
-		return new CriteriaQueryParameterSetterFactory(parameters, metadata);
+		return new CriteriaQueryParameterSetterFactory(parameters, metadata, false);
+	}
+
+	/**
+	 * Creates a new {@link QueryParameterSetterFactory} using the given {@link JpaParameters} and
+	 * {@link ParameterMetadata} for queries rendered by {@link JpqlQueryCreator} that bind parameters by their
+	 * {@link JpqlQueryCreator#getParameterName(int) name}.
+	 *
+	 * @param parameters must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @return a {@link QueryParameterSetterFactory} for rendered JPQL queries.
+	 * @since 3.4
+	 */
+	static QueryParameterSetterFactory forJpqlQuery(JpaParameters parameters, List<ParameterMetadata<?>> metadata) {
+
+		Assert.notNull(parameters, "JpaParameters must not be null");
+		Assert.notNull(metadata, "ParameterMetadata must not be null");
+
+		return new CriteriaQueryParameterSetterFactory(parameters, metadata, true);
 	}
 
 	/**
@@ -266,6 +284,7 @@ abstract class QueryParameterSetterFactory {
 
 		private final JpaParameters parameters;
 		private final List<ParameterMetadata<?>> parameterMetadata;
+		private final boolean bindByName;
 
 		/**
 		 * Creates a new {@link QueryParameterSetterFactory} from the given {@link JpaParameters} and
@@ -273,14 +292,18 @@ abstract class QueryParameterSetterFactory {
 		 *
 		 * @param parameters must not be {@literal null}.
 		 * @param metadata must not be {@literal null}.
+		 * @param bindByName whether to bind parameters by their {@link JpqlQueryCreator#getParameterName(int) name}
+		 *          instead of their {@link jakarta.persistence.criteria.ParameterExpression}.
 		 */
-		CriteriaQueryParameterSetterFactory(JpaParameters parameters, List<ParameterMetadata<?>> metadata) {
+		CriteriaQueryParameterSetterFactory(JpaParameters parameters, List<ParameterMetadata<?>> metadata,
+				boolean bindByName) {
 
 			Assert.notNull(parameters, "JpaParameters must not be null");
 			Assert.notNull(metadata, "Expressions must not be null");
 
 			this.parameters = parameters;
 			this.parameterMetadata = metadata;
+			this.bindByName = bindByName;
 		}
 
 		@Override
@@ -306,8 +329,13 @@ abstract class QueryParameterSetterFactory {
 			JpaParameter parameter = parameters.getBindableParameter(parameterIndex);
 			TemporalType temporalType = parameter.isTemporalParameter() ? parameter.getRequiredTemporalType() : null;
 
-			return new NamedOrIndexedQueryParameterSetter(values -> getAndPrepare(parameter, metadata, values),
-					metadata.getExpression(), temporalType);
+			jakarta.persistence.Parameter<?> target = bindByName //
+					? new ParameterImpl<>(BindingIdentifier.of(JpqlQueryCreator.getParameterName(parameterIndex)),
+							metadata.getExpression().getParameterType())
+					: metadata.getExpression();
+
+			return new NamedOrIndexedQueryParameterSetter(values -> getAndPrepare(parameter, metadata, values), target,
+					temporalType);
 		}
 
 		@Nullable
@@ -19,6 +19,7 @@ import jakarta.persistence.Query;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.IntFunction;
 
 import org.springframework.data.domain.KeysetScrollPosition;
@@ -77,19 +78,18 @@ public class ScrollDelegate<T> {
 		throw new UnsupportedOperationException("ScrollPosition " + scrollPosition + " not supported");
 	}
 
-	private static <T> Window<T> createWindow(Sort sort, int limit, Direction direction,
-			JpaEntityInformation<T, ?> entity, List<T> result) {
+	static <T> Window<T> createWindow(Sort sort, int limit, Direction direction, JpaEntityInformation<T, ?> entity,
+			List<T> result) {
 
 		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(direction);
 		List<T> resultsToUse = delegate.getResultWindow(delegate.postProcessResults(result), limit);
 
-		IntFunction<ScrollPosition> positionFunction = value -> {
+		// resolve the extractor once per window, keys are materialized only for positions that are requested
+		Function<T, Map<String, Object>> keysetExtractor = entity
+				.getKeysetExtractor(sort.stream().map(Order::getProperty).toList());
 
-			T object = resultsToUse.get(value);
-			Map<String, Object> keys = entity.getKeyset(sort.stream().map(Order::getProperty).toList(), object);
-
-			return ScrollPosition.of(keys, direction);
-		};
+		IntFunction<ScrollPosition> positionFunction = value -> ScrollPosition
+				.of(keysetExtractor.apply(resultsToUse.get(value)), direction);
 
 		return Window.from(resultsToUse, positionFunction, hasMoreElements(result, limit));
 	}
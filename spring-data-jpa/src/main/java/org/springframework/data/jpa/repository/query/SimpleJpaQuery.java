@@ -61,8 +61,27 @@ final class SimpleJpaQuery extends AbstractStringBasedJpaQuery {
 	 */
 	public SimpleJpaQuery(JpaQueryMethod method, EntityManager em, String queryString, @Nullable String countQueryString, QueryRewriter queryRewriter,
 			ValueExpressionDelegate valueExpressionDelegate) {
+		this(method, em, queryString, countQueryString, queryRewriter, valueExpressionDelegate,
+				QueryCacheConfiguration.create());
+	}
+
+	/**
+	 * Creates a new {@link SimpleJpaQuery} that encapsulates a simple query string.
+	 *
+	 * @param method must not be {@literal null}
+	 * @param em must not be {@literal null}
+	 * @param queryString must not be {@literal null} or empty
+	 * @param countQueryString
+	 * @param queryRewriter
+	 * @param valueExpressionDelegate must not be {@literal null}
+	 * @param cacheConfiguration must not be {@literal null}
+	 * @since 3.4
+	 */
+	public SimpleJpaQuery(JpaQueryMethod method, EntityManager em, String queryString, @Nullable String countQueryString,
+			QueryRewriter queryRewriter, ValueExpressionDelegate valueExpressionDelegate,
+			QueryCacheConfiguration cacheConfiguration) {
 
-		super(method, em, queryString, countQueryString, queryRewriter, valueExpressionDelegate);
+		super(method, em, queryString, countQueryString, queryRewriter, valueExpressionDelegate, cacheConfiguration);
 
 		validateQuery(getQuery().getQueryString(), "Validation failed for query for method %s", method);
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import org.springframework.data.jpa.repository.query.AbstractStringBasedJpaQuery.CachableQuery;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Bounded cache of sorted query strings shared across all query methods of a repository. Sharing a single cache
+ * applies a global budget to sorted query variants: frequently used query methods retain as many sort variants as
+ * they need while rarely used methods do not hold on to idle entries.
+ *
+ * @author agent
+ * @since 3.4
+ */
+class SortedQueryCache {
+
+	private final int capacity;
+	private final QueryCacheMetrics metrics;
+	private final ConcurrentLruCache<CachableQuery, String> cache;
+
+	/**
+	 * Creates a new {@link SortedQueryCache}.
+	 *
+	 * @param capacity maximum number of sorted queries to retain, must be greater than zero.
+	 * @param metrics must not be {@literal null}.
+	 */
+	SortedQueryCache(int capacity, QueryCacheMetrics metrics) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero");
+		Assert.notNull(metrics, "QueryCacheMetrics must not be null");
+
+		this.capacity = capacity;
+		this.metrics = metrics;
+		this.cache = new ConcurrentLruCache<>(capacity, this::render);
+	}
+
+	/**
+	 * Obtain the sorted query string for the given {@link CachableQuery}, rendering it if not yet cached.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return the sorted query string.
+	 */
+	String getSorted(CachableQuery query) {
+
+		metrics.recordRequest();
+
+		return cache.get(query);
+	}
+
+	private String render(CachableQuery query) {
+
+		metrics.recordMiss();
+
+		if (cache.size() >= capacity) {
+			metrics.recordEviction();
+		}
+
+		return query.render();
+	}
+
+	int size() {
+		return cache.size();
+	}
+}
@@ -19,14 +19,20 @@ import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Subgraph;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.springframework.data.mapping.PropertyPath;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
- * Factory class to create an {@link EntityGraph} from a collection of property paths.
+ * Factory class to create an {@link EntityGraph} from a collection of property paths. Property paths are resolved once
+ * per entity type and property set into a {@link GraphDefinition} that is applied to a new {@link EntityGraph} for
+ * each query.
  *
  * @author Jens Schauder
  * @author Petr Strnad
@@ -37,6 +43,9 @@ abstract class EntityGraphFactory {
 
 	public static final String HINT = "jakarta.persistence.fetchgraph";
 
+	private static final ConcurrentLruCache<GraphKey, GraphDefinition> DEFINITIONS = new ConcurrentLruCache<>(256,
+			key -> GraphDefinition.of(key.domainType(), key.properties()));
+
 	/**
 	 * Create an {@link EntityGraph} from a collection of properties.
 	 *
@@ -49,35 +58,81 @@ abstract class EntityGraphFactory {
 	public static <T> EntityGraph<T> create(EntityManager entityManager, Class<T> domainType, Set<String> properties) {
 
 		EntityGraph<T> entityGraph = entityManager.createEntityGraph(domainType);
-		Map<String, Subgraph<Object>> existingSubgraphs = new HashMap<>();
+		GraphDefinition definition = DEFINITIONS.get(new GraphKey(domainType, Set.copyOf(properties)));
 
-		for (String property : properties) {
+		for (String attribute : definition.attributes()) {
+			entityGraph.addAttributeNodes(attribute);
+		}
 
-			Subgraph<Object> current = null;
-			String currentFullPath = "";
+		definition.subgraphs().forEach((segment, subgraph) -> subgraph.applyTo(entityGraph.addSubgraph(segment)));
 
-			for (PropertyPath path : PropertyPath.from(property, domainType)) {
+		return entityGraph;
+	}
 
-				currentFullPath += path.getSegment() + ".";
+	/**
+	 * Clears resolved graph definitions to release domain types of closed application contexts.
+	 */
+	static void clear() {
+		DEFINITIONS.clear();
+	}
 
-				if (path.hasNext()) {
-					final Subgraph<Object> finalCurrent = current;
-					current = current == null
-							? existingSubgraphs.computeIfAbsent(currentFullPath, k -> entityGraph.addSubgraph(path.getSegment()))
-							: existingSubgraphs.computeIfAbsent(currentFullPath, k -> finalCurrent.addSubgraph(path.getSegment()));
-					continue;
-				}
+	private record GraphKey(Class<?> domainType, Set<String> properties) {
+	}
+
+	/**
+	 * Provider-independent description of an {@link EntityGraph} or {@link Subgraph}.
+	 *
+	 * @param attributes attribute nodes to add.
+	 * @param subgraphs subgraphs to add by attribute name.
+	 */
+	record GraphDefinition(List<String> attributes, Map<String, GraphDefinition> subgraphs) {
+
+		/**
+		 * Resolves the given properties against the domain type into a {@link GraphDefinition}.
+		 */
+		static GraphDefinition of(Class<?> domainType, Set<String> properties) {
+
+			Builder root = new Builder();
+
+			for (String property : properties) {
 
-				if (current == null) {
-					entityGraph.addAttributeNodes(path.getSegment());
-				} else {
-					current.addAttributeNodes(path.getSegment());
+				Builder current = root;
 
+				for (PropertyPath path : PropertyPath.from(property, domainType)) {
+
+					if (path.hasNext()) {
+						current = current.subgraphs.computeIfAbsent(path.getSegment(), key -> new Builder());
+						continue;
+					}
+
+					current.attributes.add(path.getSegment());
 				}
 			}
+
+			return root.build();
 		}
 
-		return entityGraph;
-	}
+		void applyTo(Subgraph<?> subgraph) {
+
+			for (String attribute : attributes) {
+				subgraph.addAttributeNodes(attribute);
+			}
+
+			subgraphs.forEach((segment, definition) -> definition.applyTo(subgraph.addSubgraph(segment)));
+		}
+
+		private static class Builder {
+
+			private final List<String> attributes = new ArrayList<>();
+			private final Map<String, Builder> subgraphs = new LinkedHashMap<>();
+
+			GraphDefinition build() {
 
+				Map<String, GraphDefinition> definitions = new LinkedHashMap<>(subgraphs.size());
+				subgraphs.forEach((segment, builder) -> definitions.put(segment, builder.build()));
+
+				return new GraphDefinition(List.copyOf(attributes), Collections.unmodifiableMap(definitions));
+			}
+		}
+	}
 }
@@ -56,7 +56,7 @@ abstract class FluentQuerySupport<S, R> {
 		this.limit = limit;
 
 		if (properties != null) {
-			this.properties = new HashSet<>(properties);
+			this.properties = Set.copyOf(properties);
 		} else {
 			this.properties = Collections.emptySet();
 		}
@@ -18,7 +18,9 @@ package org.springframework.data.jpa.repository.support;
 import jakarta.persistence.metamodel.SingularAttribute;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.springframework.data.jpa.repository.query.JpaEntityMetadata;
 import org.springframework.data.repository.core.EntityInformation;
@@ -87,4 +89,19 @@ public interface JpaEntityInformation<T, ID> extends EntityInformation<T, ID>, J
 	 * @since 3.1
 	 */
 	Map<String, Object> getKeyset(Iterable<String> propertyPaths, T entity);
+
+	/**
+	 * Returns a function to extract keysets for {@code propertyPaths} and the primary key from entities. Implementations
+	 * may resolve property access once per set of property paths instead of introspecting each entity.
+	 *
+	 * @param propertyPaths the property paths that make up the keyset in combination with the composite key components.
+	 * @return a function mapping an entity to its keyset.
+	 * @since 3.4
+	 * @see #getKeyset(Iterable, Object)
+	 */
+	default Function<T, Map<String, Object>> getKeysetExtractor(List<String> propertyPaths) {
+
+		List<String> paths = List.copyOf(propertyPaths);
+		return entity -> getKeyset(paths, entity);
+	}
 }
@@ -18,7 +18,6 @@ package org.springframework.data.jpa.repository.support;
 import jakarta.persistence.IdClass;
 import jakarta.persistence.PersistenceUnitUtil;
 import jakarta.persistence.Tuple;
-import jakarta.persistence.metamodel.Attribute;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.IdentifiableType;
 import jakarta.persistence.metamodel.ManagedType;
@@ -31,6 +30,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -44,6 +44,8 @@ import org.springframework.data.jpa.util.JpaMetamodel;
 import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Implementation of {@link org.springframework.data.repository.core.EntityInformation} that uses JPA {@link Metamodel}
@@ -59,10 +61,14 @@ import org.springframework.util.Assert;
 public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSupport<T, ID> {
 
 	private final IdMetadata<T> idMetadata;
-	private final Optional<SingularAttribute<? super T, ?>> versionAttribute;
-	private final Metamodel metamodel;
 	private final @Nullable String entityName;
 	private final PersistenceUnitUtil persistenceUnitUtil;
+	private final PersistenceProvider persistenceProvider;
+	private final @Nullable PropertyValueAccessor versionAccessor;
+	private final List<PropertyValueAccessor> idAttributeAccessors;
+	private @Nullable Map<String, PropertyValueAccessor> idClassAccessors;
+	private final ConcurrentLruCache<List<String>, KeysetExtractor> keysetExtractors = new ConcurrentLruCache<>(64,
+			KeysetExtractor::new);
 
 	/**
 	 * Creates a new {@link JpaMetamodelEntityInformation} for the given domain class and {@link Metamodel}.
@@ -77,7 +83,6 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 		super(domainClass);
 
 		Assert.notNull(metamodel, "Metamodel must not be null");
-		this.metamodel = metamodel;
 
 		ManagedType<T> type = metamodel.managedType(domainClass);
 
@@ -91,11 +96,29 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 			throw new IllegalArgumentException("The given domain class does not contain an id attribute");
 		}
 
-		this.idMetadata = new IdMetadata<>(identifiableType, PersistenceProvider.fromMetamodel(metamodel));
-		this.versionAttribute = findVersionAttribute(identifiableType, metamodel);
+		this.persistenceProvider = PersistenceProvider.fromMetamodel(metamodel);
+		this.idMetadata = new IdMetadata<>(identifiableType, persistenceProvider);
+		Optional<SingularAttribute<? super T, ?>> versionAttribute = findVersionAttribute(identifiableType, metamodel);
 
 		Assert.notNull(persistenceUnitUtil, "PersistenceUnitUtil must not be null");
 		this.persistenceUnitUtil = persistenceUnitUtil;
+
+		// resolve accessors once instead of introspecting entities on each isNew(…)/getId(…) call
+		this.versionAccessor = versionAttribute.filter(it -> !it.getJavaType().isPrimitive())
+				.map(it -> PropertyValueAccessor.of(domainClass, it.getName())).orElse(null);
+
+		if (idMetadata.hasSimpleId()) {
+			this.idAttributeAccessors = Collections.emptyList();
+		} else {
+
+			List<PropertyValueAccessor> accessors = new ArrayList<>(idMetadata.attributes.size());
+
+			for (SingularAttribute<? super T, ?> attribute : idMetadata) {
+				accessors.add(PropertyValueAccessor.of(domainClass, attribute.getName()));
+			}
+
+			this.idAttributeAccessors = accessors;
+		}
 	}
 
 	@Override
@@ -148,8 +171,6 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 	public ID getId(T entity) {
 
 		// check if this is a proxy. If so use Proxy mechanics to access the id.
-		PersistenceProvider persistenceProvider = PersistenceProvider.fromMetamodel(metamodel);
-
 		if (persistenceProvider.shouldUseAccessorFor(entity)) {
 			return (ID) persistenceProvider.getIdentifierFrom(entity);
 		}
@@ -165,19 +186,13 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 		}
 
 		// otherwise, check if the complex id type has any partially filled fields
-		BeanWrapper entityWrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
-		boolean partialIdValueFound = false;
-
-		for (SingularAttribute<? super T, ?> attribute : idMetadata) {
-
-			Object propertyValue = entityWrapper.getPropertyValue(attribute.getName());
-
-			if (propertyValue != null) {
-				partialIdValueFound = true;
+		for (PropertyValueAccessor accessor : idAttributeAccessors) {
+			if (accessor.getValue(entity) != null) {
+				return (ID) persistenceUnitUtil.getIdentifier(entity);
 			}
 		}
 
-		return partialIdValueFound ? (ID) persistenceUnitUtil.getIdentifier(entity) : null;
+		return null;
 	}
 
 	@Override
@@ -213,55 +228,132 @@ public class JpaMetamodelEntityInformation<T, ID> extends JpaEntityInformationSu
 
 		Assert.isTrue(hasCompositeId(), "Model must have a composite Id");
 
-		return new DirectFieldAccessFallbackBeanWrapper(id).getPropertyValue(idAttribute);
+		Map<String, PropertyValueAccessor> accessors = idClassAccessors;
+
+		if (accessors == null) {
+
+			// lazy initialization of idClassAccessors field, racing threads may create it more than once. The immutable map
+			// is safely published through its final fields.
+			accessors = createIdClassAccessors();
+			this.idClassAccessors = accessors;
+		}
+
+		PropertyValueAccessor accessor = accessors.get(idAttribute);
+
+		return accessor != null ? accessor.getValue(id)
+				: new DirectFieldAccessFallbackBeanWrapper(id).getPropertyValue(idAttribute);
+	}
+
+	private Map<String, PropertyValueAccessor> createIdClassAccessors() {
+
+		Class<?> idType;
+
+		try {
+			idType = idMetadata.getType();
+		} catch (IllegalStateException ex) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, PropertyValueAccessor> accessors = new LinkedHashMap<>(idMetadata.attributes.size());
+
+		for (SingularAttribute<? super T, ?> attribute : idMetadata) {
+			accessors.put(attribute.getName(), PropertyValueAccessor.of(idType, attribute.getName()));
+		}
+
+		return Map.copyOf(accessors);
 	}
 
 	@Override
 	public boolean isNew(T entity) {
 
-		if (versionAttribute.isEmpty()
-				|| versionAttribute.map(Attribute::getJavaType).map(Class::isPrimitive).orElse(false)) {
+		if (versionAccessor == null) {
 			return super.isNew(entity);
 		}
 
-		BeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
-
-		return versionAttribute.map(it -> wrapper.getPropertyValue(it.getName()) == null).orElse(true);
+		return versionAccessor.getValue(entity) == null;
 	}
 
 	@Override
 	public Map<String, Object> getKeyset(Iterable<String> propertyPaths, T entity) {
 
-		Function<String, Object> getter = getPropertyValueFunction(entity);
+		List<String> paths = new ArrayList<>();
+		propertyPaths.forEach(paths::add);
+
+		return keysetExtractors.get(paths).apply(entity);
+	}
+
+	@Override
+	public Function<T, Map<String, Object>> getKeysetExtractor(List<String> propertyPaths) {
+		return keysetExtractors.get(List.copyOf(propertyPaths));
+	}
+
+	/**
+	 * Extracts keysets for a fixed list of property paths. Id attributes and top-level properties are read through
+	 * {@link PropertyValueAccessor}s resolved once, nested property paths are read through
+	 * {@link DirectFieldAccessFallbackBeanWrapper}.
+	 *
+	 * @since 3.4
+	 */
+	private class KeysetExtractor implements Function<T, Map<String, Object>> {
+
+		private final String[] keys;
+		private final @Nullable PropertyValueAccessor[] accessors;
+		private final int simpleIdIndex;
+
+		KeysetExtractor(List<String> propertyPaths) {
+
+			Set<String> keys = new LinkedHashSet<>();
+			keys.addAll(getIdAttributeNames());
+			keys.addAll(propertyPaths);
 
-		Map<String, Object> keyset = new LinkedHashMap<>();
+			this.keys = keys.toArray(new String[0]);
+			this.accessors = new PropertyValueAccessor[this.keys.length];
+			this.simpleIdIndex = hasCompositeId() ? -1 : 0;
 
-		if (hasCompositeId()) {
-			for (String idAttributeName : getIdAttributeNames()) {
-				keyset.put(idAttributeName, getter.apply(idAttributeName));
+			for (int i = 0; i < this.keys.length; i++) {
+
+				String key = this.keys[i];
+
+				if (i != simpleIdIndex && key.indexOf('.') == -1) {
+					accessors[i] = PropertyValueAccessor.of(getJavaType(), key);
+				}
 			}
-		} else {
-			keyset.put(getIdAttribute().getName(), getId(entity));
 		}
 
-		for (String propertyPath : propertyPaths) {
-			keyset.put(propertyPath, getter.apply(propertyPath));
-		}
+		@Override
+		public Map<String, Object> apply(T entity) {
 
-		return keyset;
-	}
+			Map<String, Object> keyset = CollectionUtils.newLinkedHashMap(keys.length);
+			Tuple tuple = entity instanceof Tuple t ? t : null;
+			BeanWrapper wrapper = null;
 
-	private Function<String, Object> getPropertyValueFunction(Object entity) {
+			for (int i = 0; i < keys.length; i++) {
 
-		if (entity instanceof Tuple t) {
-			return t::get;
-		}
+				PropertyValueAccessor accessor = accessors[i];
+				Object value;
+
+				if (i == simpleIdIndex) {
+					value = getId(entity);
+				} else if (tuple != null) {
+					value = tuple.get(keys[i]);
+				} else if (accessor != null) {
+					value = accessor.getValue(entity);
+				} else {
 
-		// TODO: Proxy handling requires more elaborate refactoring, see
-		// https://github.com/spring-projects/spring-data-jpa/issues/2784
-		BeanWrapper entityWrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
+					// TODO: Proxy handling requires more elaborate refactoring, see
+					// https://github.com/spring-projects/spring-data-jpa/issues/2784
+					if (wrapper == null) {
+						wrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
+					}
+
+					value = wrapper.getPropertyValue(keys[i]);
+				}
 
-		return entityWrapper::getPropertyValue;
+				keyset.put(keys[i], value);
+			}
+
+			return keyset;
+		}
 	}
 
 	/**
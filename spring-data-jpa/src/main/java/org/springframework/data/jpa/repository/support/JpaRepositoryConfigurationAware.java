@@ -52,4 +52,15 @@ public interface JpaRepositoryConfigurationAware {
 	default void setRepositoryMethodMetadata(CrudMethodMetadata metadata) {
 
 	}
+
+	/**
+	 * Configures the maximum number of identifiers or entities processed by a single statement when running bulk
+	 * operations, e.g. to stay below the {@code IN} list limits of the database.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 3.4
+	 */
+	default void setBatchSize(int batchSize) {
+
+	}
 }
@@ -44,6 +44,7 @@ import org.springframework.data.jpa.repository.query.JpaQueryLookupStrategy;
 import org.springframework.data.jpa.repository.query.JpaQueryMethod;
 import org.springframework.data.jpa.repository.query.JpaQueryMethodFactory;
 import org.springframework.data.jpa.repository.query.Procedure;
+import org.springframework.data.jpa.repository.query.QueryCacheConfiguration;
 import org.springframework.data.jpa.repository.query.QueryRewriterProvider;
 import org.springframework.data.jpa.util.JpaMetamodel;
 import org.springframework.data.projection.ProjectionFactory;
@@ -90,6 +91,8 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 	private EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
 	private JpaQueryMethodFactory queryMethodFactory;
 	private QueryRewriterProvider queryRewriterProvider;
+	private QueryCacheConfiguration queryCacheConfiguration = QueryCacheConfiguration.create();
+	private int batchSize = SimpleJpaRepository.DEFAULT_BATCH_SIZE;
 
 	/**
 	 * Creates a new {@link JpaRepositoryFactory}.
@@ -192,6 +195,43 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 		this.queryRewriterProvider = queryRewriterProvider;
 	}
 
+	/**
+	 * Configures the {@link QueryCacheConfiguration} to be used by query methods. Defaults to
+	 * {@link QueryCacheConfiguration#create()}.
+	 *
+	 * @param queryCacheConfiguration must not be {@literal null}.
+	 * @since 3.4
+	 */
+	public void setQueryCacheConfiguration(QueryCacheConfiguration queryCacheConfiguration) {
+
+		Assert.notNull(queryCacheConfiguration, "QueryCacheConfiguration must not be null");
+		this.queryCacheConfiguration = queryCacheConfiguration;
+	}
+
+	/**
+	 * Returns the {@link QueryCacheConfiguration} used by query methods, e.g. to obtain cache metrics.
+	 *
+	 * @return the {@link QueryCacheConfiguration}.
+	 * @since 3.4
+	 */
+	public QueryCacheConfiguration getQueryCacheConfiguration() {
+		return queryCacheConfiguration;
+	}
+
+	/**
+	 * Configures the maximum number of identifiers or entities processed by a single statement when running bulk
+	 * operations such as {@link SimpleJpaRepository#deleteAllById(Iterable)}. Defaults to
+	 * {@value SimpleJpaRepository#DEFAULT_BATCH_SIZE}.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 3.4
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
 	@Override
 	protected final JpaRepositoryImplementation<?, ?> getTargetRepository(RepositoryInformation information) {
 
@@ -240,7 +280,7 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 			ValueExpressionDelegate valueExpressionDelegate) {
 		return Optional.of(JpaQueryLookupStrategy.create(entityManager, queryMethodFactory, key,
 				new CachingValueExpressionDelegate(valueExpressionDelegate),
-				queryRewriterProvider, escapeCharacter));
+				queryRewriterProvider, escapeCharacter, queryCacheConfiguration));
 	}
 
 
@@ -298,6 +338,7 @@ public class JpaRepositoryFactory extends RepositoryFactorySupport {
 		repository.setRepositoryMethodMetadata(crudMethodMetadata);
 		repository.setEscapeCharacter(escapeCharacter);
 		repository.setProjectionFactory(getProjectionFactory());
+		repository.setBatchSize(batchSize);
 	}
 
 	private static boolean isTransactionNeeded(Class<?> repositoryClass) {
@@ -22,6 +22,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
 import org.springframework.data.jpa.repository.query.JpaQueryMethodFactory;
+import org.springframework.data.jpa.repository.query.QueryCacheConfiguration;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.querydsl.EntityPathResolver;
 import org.springframework.data.querydsl.SimpleEntityPathResolver;
@@ -49,6 +50,8 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 	private EntityPathResolver entityPathResolver;
 	private EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
 	private JpaQueryMethodFactory queryMethodFactory;
+	private QueryCacheConfiguration queryCacheConfiguration = QueryCacheConfiguration.create();
+	private int batchSize = SimpleJpaRepository.DEFAULT_BATCH_SIZE;
 
 	/**
 	 * Creates a new {@link JpaRepositoryFactoryBean} for the given repository interface.
@@ -116,6 +119,8 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		JpaRepositoryFactory jpaRepositoryFactory = new JpaRepositoryFactory(entityManager);
 		jpaRepositoryFactory.setEntityPathResolver(entityPathResolver);
 		jpaRepositoryFactory.setEscapeCharacter(escapeCharacter);
+		jpaRepositoryFactory.setQueryCacheConfiguration(queryCacheConfiguration);
+		jpaRepositoryFactory.setBatchSize(batchSize);
 
 		if (queryMethodFactory != null) {
 			jpaRepositoryFactory.setQueryMethodFactory(queryMethodFactory);
@@ -136,4 +141,35 @@ public class JpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 		this.escapeCharacter = EscapeCharacter.of(escapeCharacter);
 	}
+
+	/**
+	 * Configures the maximum number of query metadata entries retained per query method.
+	 *
+	 * @param queryMetadataCacheSize must be greater than zero.
+	 * @since 3.4
+	 */
+	public void setQueryMetadataCacheSize(int queryMetadataCacheSize) {
+		this.queryCacheConfiguration = this.queryCacheConfiguration.withMetadataCacheSize(queryMetadataCacheSize);
+	}
+
+	/**
+	 * Configures the maximum number of sorted query strings retained across all query methods of the repository.
+	 *
+	 * @param sortedQueryCacheSize must be greater than zero.
+	 * @since 3.4
+	 */
+	public void setSortedQueryCacheSize(int sortedQueryCacheSize) {
+		this.queryCacheConfiguration = this.queryCacheConfiguration.withSortedQueryCacheSize(sortedQueryCacheSize);
+	}
+
+	/**
+	 * Configures the maximum number of identifiers or entities processed by a single statement when running bulk
+	 * operations.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 3.4
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
 }
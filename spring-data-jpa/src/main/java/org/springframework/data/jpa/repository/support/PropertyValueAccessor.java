@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Reads the value of a single property using a {@link MethodHandle} that is resolved once per type. Prefers the
+ * property getter and falls back to direct field access, matching the lookup rules of
+ * {@link DirectFieldAccessFallbackBeanWrapper} without introspecting the target on each access.
+ * <p>
+ * Targets that are not an instance of the type the accessor was created for and properties that cannot be resolved to
+ * a getter or field are read through {@link DirectFieldAccessFallbackBeanWrapper}.
+ *
+ * @author agent
+ * @since 3.4
+ */
+final class PropertyValueAccessor {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final Class<?> type;
+	private final String propertyName;
+	private final @Nullable MethodHandle getter;
+
+	private PropertyValueAccessor(Class<?> type, String propertyName, @Nullable MethodHandle getter) {
+
+		this.type = type;
+		this.propertyName = propertyName;
+		this.getter = getter;
+	}
+
+	/**
+	 * Creates a new {@link PropertyValueAccessor} for the given {@code type} and {@code propertyName}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param propertyName must not be {@literal null} or empty.
+	 * @return a new {@link PropertyValueAccessor}.
+	 */
+	static PropertyValueAccessor of(Class<?> type, String propertyName) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.hasText(propertyName, "Property name must not be null or empty");
+
+		return new PropertyValueAccessor(type, propertyName, resolveGetter(type, propertyName));
+	}
+
+	/**
+	 * Reads the property value from {@code target}.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @return the property value, can be {@literal null}.
+	 */
+	@Nullable
+	Object getValue(Object target) {
+
+		if (getter == null || !type.isInstance(target)) {
+			return new DirectFieldAccessFallbackBeanWrapper(target).getPropertyValue(propertyName);
+		}
+
+		try {
+			return (Object) getter.invokeExact(target);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new IllegalStateException("Cannot read property '%s' of %s".formatted(propertyName, type.getName()), ex);
+		}
+	}
+
+	@Nullable
+	private static MethodHandle resolveGetter(Class<?> type, String propertyName) {
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		try {
+
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, propertyName);
+			Method readMethod = descriptor != null ? descriptor.getReadMethod() : null;
+
+			if (readMethod != null) {
+
+				ReflectionUtils.makeAccessible(readMethod);
+				return lookup.unreflect(readMethod).asType(GETTER_TYPE);
+			}
+
+			Field field = ReflectionUtils.findField(type, propertyName);
+
+			if (field != null) {
+
+				ReflectionUtils.makeAccessible(field);
+				return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+			}
+		} catch (IllegalAccessException | RuntimeException ex) {
+			// fall back to bean wrapper access
+		}
+
+		return null;
+	}
+}
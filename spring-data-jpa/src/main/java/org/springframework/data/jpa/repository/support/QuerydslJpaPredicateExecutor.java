@@ -365,6 +365,12 @@ public class QuerydslJpaPredicateExecutor<T> implements QuerydslPredicateExecuto
 					ConstantImpl.create(value));
 		}
 
+		@Override
+		public BooleanExpression compareInclusive(Order order, Expression<?> propertyExpression, Object value) {
+			return Expressions.booleanOperation(order.isAscending() ? Ops.GOE : Ops.LOE, propertyExpression,
+					ConstantImpl.create(value));
+		}
+
 		@Override
 		public BooleanExpression compare(Expression<?> propertyExpression, @Nullable Object value) {
 			return Expressions.booleanOperation(Ops.EQ, propertyExpression,
@@ -30,17 +30,24 @@ import jakarta.persistence.criteria.ParameterExpression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
 
 import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.KeysetScrollPosition;
@@ -48,12 +55,17 @@ import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaBatchExecutor;
+import org.springframework.data.jpa.repository.JpaSpecificationStreamExecutor;
+import org.springframework.data.jpa.repository.query.CountCache;
 import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.data.jpa.repository.query.KeysetScrollIterator;
 import org.springframework.data.jpa.repository.query.KeysetScrollSpecification;
 import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.data.jpa.repository.support.FetchableFluentQueryBySpecification.SpecificationScrollDelegate;
@@ -96,19 +108,29 @@ import org.springframework.util.Assert;
  */
 @Repository
 @Transactional(readOnly = true)
-public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T, ID> {
+public class SimpleJpaRepository<T, ID>
+		implements JpaRepositoryImplementation<T, ID>, JpaBatchExecutor<T>, JpaSpecificationStreamExecutor<T> {
 
 	private static final String ID_MUST_NOT_BE_NULL = "The given id must not be null";
 	private static final String IDS_MUST_NOT_BE_NULL = "Ids must not be null";
 	private static final String ENTITIES_MUST_NOT_BE_NULL = "Entities must not be null";
 
+	/**
+	 * Default maximum number of identifiers or entities processed by a single statement during bulk operations.
+	 *
+	 * @since 3.4
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 512;
+
 	private final JpaEntityInformation<T, ?> entityInformation;
 	private final EntityManager entityManager;
 	private final PersistenceProvider provider;
+	private final boolean basicIdClassAttributes;
 
 	private @Nullable CrudMethodMetadata metadata;
 	private @Nullable ProjectionFactory projectionFactory;
 	private EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
+	private int batchSize = DEFAULT_BATCH_SIZE;
 
 	/**
 	 * Creates a new {@link SimpleJpaRepository} to manage objects of the given {@link JpaEntityInformation}.
@@ -124,6 +146,8 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		this.entityInformation = entityInformation;
 		this.entityManager = entityManager;
 		this.provider = PersistenceProvider.fromEntityManager(entityManager);
+		this.basicIdClassAttributes = entityInformation.hasCompositeId()
+				&& hasBasicIdClassAttributes(entityManager, entityInformation.getJavaType());
 	}
 
 	/**
@@ -157,6 +181,21 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		this.projectionFactory = projectionFactory;
 	}
 
+	/**
+	 * Configures the maximum number of identifiers or entities processed by a single statement during bulk operations.
+	 * Bulk deletes exceeding the batch size are split into multiple statements and flushed per batch to keep the
+	 * persistence context small.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 3.4
+	 */
+	@Override
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+		this.batchSize = batchSize;
+	}
+
 	@Nullable
 	protected CrudMethodMetadata getRepositoryMethodMetadata() {
 		return metadata;
@@ -216,9 +255,22 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 		Assert.notNull(ids, IDS_MUST_NOT_BE_NULL);
 
-		for (ID id : ids) {
-			deleteById(id);
+		List<List<ID>> batches = partition(ids, batchSize);
+
+		for (int i = 0; i < batches.size(); i++) {
+
+			// load entities per batch instead of per id to retain lifecycle callbacks and cascades
+			for (T entity : findAllById(batches.get(i))) {
+				delete(entity);
+			}
+
+			// release removed entities from the persistence context before loading the next batch
+			if (i < batches.size() - 1) {
+				entityManager.flush();
+			}
 		}
+
+		CountCache.invalidate(getDomainClass());
 	}
 
 	@Override
@@ -244,15 +296,18 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 
 			Query query = entityManager.createQuery(queryString);
 
+			applyQueryHints(query);
+
 			/*
-			 * Some JPA providers require {@code ids} to be a {@link Collection} so we must convert if it's not already.
+			 * Some JPA providers require {@code ids} to be a {@link Collection} so we bind each batch as List.
 			 */
-			Collection<ID> idCollection = toCollection(ids);
-			query.setParameter("ids", idCollection);
+			for (List<ID> batch : partition(ids, batchSize)) {
 
-			applyQueryHints(query);
+				query.setParameter("ids", batch);
+				query.executeUpdate();
+			}
 
-			query.executeUpdate();
+			CountCache.invalidate(getDomainClass());
 		}
 	}
 
@@ -277,17 +332,40 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 			return;
 		}
 
-		applyAndBind(getQueryString(DELETE_ALL_QUERY_STRING, entityInformation.getEntityName()), entities, entityManager)
-				.executeUpdate();
+		String queryString = getQueryString(DELETE_ALL_QUERY_STRING, entityInformation.getEntityName());
+
+		for (List<T> batch : partition(entities, batchSize)) {
+			applyAndBind(queryString, batch, entityManager).executeUpdate();
+		}
+
+		CountCache.invalidate(getDomainClass());
 	}
 
 	@Override
 	@Transactional
+	@SuppressWarnings("unchecked")
 	public void deleteAll() {
 
-		for (T element : findAll()) {
-			delete(element);
+		if (entityInformation.hasCompositeId()) {
+
+			for (T element : findAll()) {
+				delete(element);
+			}
+
+			CountCache.invalidate(getDomainClass());
+			return;
 		}
+
+		// load identifiers only and delete in batches so that entities do not accumulate in the persistence context
+		String idAttribute = entityInformation.getRequiredIdAttribute().getName();
+		String queryString = String.format("select x.%s from %s x", idAttribute, entityInformation.getEntityName());
+
+		Query query = entityManager.createQuery(queryString);
+
+		// scalar result, fetch and load graphs do not apply
+		applyQueryHintsForCount(query);
+
+		deleteAllById((List<ID>) query.getResultList());
 	}
 
 	@Override
@@ -299,6 +377,8 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		applyQueryHints(query);
 
 		query.executeUpdate();
+
+		CountCache.invalidate(getDomainClass());
 	}
 
 	@Override
@@ -398,23 +478,69 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 			return Collections.emptyList();
 		}
 
+		// distinct ids so that batches do not return the same entity twice
+		List<List<ID>> batches = partition(new LinkedHashSet<>(toCollection(ids)), batchSize);
+
 		if (entityInformation.hasCompositeId()) {
 
 			List<T> results = new ArrayList<>();
 
-			for (ID id : ids) {
-				findById(id).ifPresent(results::add);
+			for (List<ID> batch : batches) {
+
+				if (!basicIdClassAttributes) {
+					for (ID id : batch) {
+						findById(id).ifPresent(results::add);
+					}
+					continue;
+				}
+
+				// identifier values are bound as parameters, padding limits the number of distinct statements
+				results.addAll(getQuery(new ByCompositeIdsSpecification<>(entityInformation, padToPowerOfTwo(batch, batchSize)),
+						Sort.unsorted()).getResultList());
 			}
 
 			return results;
 		}
 
-		Collection<ID> idCollection = toCollection(ids);
-
 		ByIdsSpecification<T> specification = new ByIdsSpecification<>(entityInformation);
 		TypedQuery<T> query = getQuery(specification, Sort.unsorted());
 
-		return query.setParameter(specification.parameter, idCollection).getResultList();
+		if (batches.size() == 1) {
+			return query.setParameter(specification.parameter, padToPowerOfTwo(batches.get(0), batchSize)).getResultList();
+		}
+
+		List<T> results = new ArrayList<>();
+
+		for (List<ID> batch : batches) {
+			results.addAll(query.setParameter(specification.parameter, padToPowerOfTwo(batch, batchSize)).getResultList());
+		}
+
+		return results;
+	}
+
+	/**
+	 * Returns whether all {@link jakarta.persistence.IdClass} attributes are basic attributes that can be compared with
+	 * the corresponding identifier value in a query. Associations used as part of the identifier require a lookup
+	 * through {@link EntityManager#find(Class, Object)}.
+	 */
+	private static <T> boolean hasBasicIdClassAttributes(EntityManager entityManager, Class<T> domainType) {
+
+		Set<SingularAttribute<? super T, ?>> idClassAttributes;
+
+		try {
+			EntityType<T> entityType = entityManager.getMetamodel().entity(domainType);
+			idClassAttributes = entityType.getIdClassAttributes();
+		} catch (IllegalArgumentException ex) {
+			return false;
+		}
+
+		for (SingularAttribute<? super T, ?> attribute : idClassAttributes) {
+			if (attribute.getPersistentAttributeType() != PersistentAttributeType.BASIC) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	@Override
@@ -533,6 +659,74 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		return queryFunction.apply((FetchableFluentQuery<S>) fluentQuery);
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Stream<T> streamAll(Specification<T> spec, Sort sort, int pageSize, boolean clearBetweenWindows) {
+
+		Assert.notNull(spec, "Specification must not be null");
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.isTrue(pageSize > 0, "Page size must be greater than zero");
+
+		Class<T> domainClass = getDomainClass();
+		Sort sortToUse = KeysetScrollSpecification.createSort(ScrollPosition.keyset(), sort, entityInformation);
+
+		// create query shapes once and only bind keyset values for each subsequent window
+		CriteriaQuery<T> initialQuery = createCriteriaQuery(spec, domainClass, sortToUse);
+		Map<String, ParameterExpression<?>> parameters = KeysetScrollSpecification.createParameters(sortToUse,
+				domainClass, entityManager.getCriteriaBuilder());
+		CriteriaQuery<T> keysetQuery = createCriteriaQuery(spec.and(new KeysetScrollSpecification<>(
+				ScrollPosition.forward(parameters), sortToUse, entityInformation)), domainClass, sortToUse);
+
+		// windows are fetched after the repository call returned, so capture method metadata upfront
+		LockModeType lockModeType = metadata != null ? metadata.getLockModeType() : null;
+		Map<String, Object> hints = getHints();
+
+		ScrollQueryFactory scrollFunction = (windowSort, scrollPosition) -> {
+
+			Map<String, Object> keys = ((KeysetScrollPosition) scrollPosition).getKeys();
+
+			if (scrollPosition.isInitial()) {
+				return applyLockModeAndHints(entityManager.createQuery(initialQuery), lockModeType, hints);
+			}
+
+			if (!hasValues(parameters, keys)) {
+				return applyLockModeAndHints(entityManager.createQuery(createCriteriaQuery(spec.and(
+						new KeysetScrollSpecification<>((KeysetScrollPosition) scrollPosition, sortToUse, entityInformation)),
+						domainClass, sortToUse)), lockModeType, hints);
+			}
+
+			TypedQuery<T> query = applyLockModeAndHints(entityManager.createQuery(keysetQuery), lockModeType, hints);
+			parameters.forEach(
+					(property, parameter) -> query.setParameter((Parameter<Object>) parameter, keys.get(property)));
+
+			return query;
+		};
+
+		SpecificationScrollDelegate<T> scrollDelegate = new SpecificationScrollDelegate<>(scrollFunction,
+				entityInformation);
+		Runnable beforeNextWindow = clearBetweenWindows ? () -> {
+
+			Assert.state(entityManager.isJoinedToTransaction(),
+					"Clearing the persistence context between windows requires the stream to be consumed within a transaction");
+			entityManager.clear();
+		} : () -> {};
+
+		return KeysetScrollIterator
+				.of(position -> scrollDelegate.scroll(sortToUse, pageSize, position), ScrollPosition.keyset(), beforeNextWindow)
+				.stream();
+	}
+
+	private static boolean hasValues(Map<String, ParameterExpression<?>> parameters, Map<String, Object> keys) {
+
+		for (String property : parameters.keySet()) {
+			if (keys.get(property) == null) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	@Override
 	public <S extends T> Optional<S> findOne(Example<S> example) {
 
@@ -662,6 +856,45 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		return result;
 	}
 
+	@Override
+	@Transactional
+	public <S extends T> long saveAllInBatches(Iterable<S> entities, int batchSize) {
+		return doSaveAllInBatches(entities, batchSize, this::save);
+	}
+
+	@Override
+	@Transactional
+	public <S extends T> long persistAllInBatches(Iterable<S> entities, int batchSize) {
+		return doSaveAllInBatches(entities, batchSize, entityManager::persist);
+	}
+
+	private <S extends T> long doSaveAllInBatches(Iterable<S> entities, int batchSize, Consumer<S> saveFunction) {
+
+		Assert.notNull(entities, ENTITIES_MUST_NOT_BE_NULL);
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+		long count = 0;
+
+		for (S entity : entities) {
+
+			Assert.notNull(entity, "Entity must not be null");
+
+			saveFunction.accept(entity);
+
+			if (++count % batchSize == 0) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
+
+		if (count % batchSize != 0) {
+			entityManager.flush();
+			entityManager.clear();
+		}
+
+		return count;
+	}
+
 	@Override
 	@Transactional
 	public void flush() {
@@ -745,6 +978,11 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 	 * @param sort must not be {@literal null}.
 	 */
 	protected <S extends T> TypedQuery<S> getQuery(@Nullable Specification<S> spec, Class<S> domainClass, Sort sort) {
+		return applyRepositoryMethodMetadata(entityManager.createQuery(createCriteriaQuery(spec, domainClass, sort)));
+	}
+
+	private <S extends T> CriteriaQuery<S> createCriteriaQuery(@Nullable Specification<S> spec, Class<S> domainClass,
+			Sort sort) {
 
 		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
 		CriteriaQuery<S> query = builder.createQuery(domainClass);
@@ -756,7 +994,7 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 			query.orderBy(toOrders(sort, root, builder));
 		}
 
-		return applyRepositoryMethodMetadata(entityManager.createQuery(query));
+		return query;
 	}
 
 	/**
@@ -853,6 +1091,15 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		return toReturn;
 	}
 
+	private static <S> TypedQuery<S> applyLockModeAndHints(TypedQuery<S> query, @Nullable LockModeType lockModeType,
+			Map<String, Object> hints) {
+
+		TypedQuery<S> toReturn = lockModeType == null ? query : query.setLockMode(lockModeType);
+		hints.forEach(toReturn::setHint);
+
+		return toReturn;
+	}
+
 	private void applyQueryHints(Query query) {
 
 		if (metadata == null) {
@@ -918,6 +1165,71 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		return ids instanceof Collection c ? c : Streamable.of(ids).toList();
 	}
 
+	/**
+	 * Splits the given {@link Iterable} into consecutive {@link List lists} containing at most {@code batchSize}
+	 * elements.
+	 *
+	 * @param elements must not be {@literal null}.
+	 * @param batchSize must be greater than zero.
+	 * @return the batches, never {@literal null}.
+	 */
+	static <E> List<List<E>> partition(Iterable<? extends E> elements, int batchSize) {
+
+		List<List<E>> batches = new ArrayList<>();
+		List<E> batch = new ArrayList<>(Math.min(batchSize, 16));
+
+		for (E element : elements) {
+
+			if (batch.size() == batchSize) {
+				batches.add(batch);
+				batch = new ArrayList<>(Math.min(batchSize, 16));
+			}
+
+			batch.add(element);
+		}
+
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+
+		return batches;
+	}
+
+	/**
+	 * Pads the given batch to the next power of two (limited to {@code batchSize}) by repeating its last element. Binding
+	 * a limited number of distinct list sizes allows persistence providers to reuse cached query plans for expanded
+	 * {@code IN} lists. If {@code batchSize} is not a power of two, the largest padded size is {@code batchSize} itself.
+	 *
+	 * @param batch must not be {@literal null}.
+	 * @param batchSize the maximum batch size.
+	 * @return the padded batch.
+	 */
+	static <E> List<E> padToPowerOfTwo(List<E> batch, int batchSize) {
+
+		int size = batch.size();
+
+		if (size <= 1) {
+			return batch;
+		}
+
+		int paddedSize = Math.min(Integer.highestOneBit(size - 1) << 1, batchSize);
+
+		if (paddedSize <= size) {
+			return batch;
+		}
+
+		List<E> padded = new ArrayList<>(paddedSize);
+		padded.addAll(batch);
+
+		E last = batch.get(size - 1);
+
+		while (padded.size() < paddedSize) {
+			padded.add(last);
+		}
+
+		return padded;
+	}
+
 	/**
 	 * Executes a count query and transparently sums up all values returned.
 	 *
@@ -967,6 +1279,51 @@ public class SimpleJpaRepository<T, ID> implements JpaRepositoryImplementation<T
 		}
 	}
 
+	/**
+	 * Specification matching entities using an {@link jakarta.persistence.IdClass} by a collection of identifiers. Each
+	 * identifier is expressed as a conjunction of its identifier attributes as JPA does not support tuple {@code IN}
+	 * predicates.
+	 *
+	 * @since 3.4
+	 */
+	private static final class ByCompositeIdsSpecification<T> implements Specification<T> {
+
+		@Serial private static final long serialVersionUID = 1L;
+
+		private final JpaEntityInformation<T, ?> entityInformation;
+		private final Collection<?> ids;
+
+		ByCompositeIdsSpecification(JpaEntityInformation<T, ?> entityInformation, Collection<?> ids) {
+
+			this.entityInformation = entityInformation;
+			this.ids = ids;
+		}
+
+		@Override
+		public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+
+			Collection<String> idAttributeNames = entityInformation.getIdAttributeNames();
+			Predicate[] predicates = new Predicate[ids.size()];
+			int index = 0;
+
+			for (Object id : ids) {
+
+				Predicate[] attributePredicates = new Predicate[idAttributeNames.size()];
+				int attributeIndex = 0;
+
+				for (String idAttributeName : idAttributeNames) {
+
+					Object value = entityInformation.getCompositeIdAttributeValue(id, idAttributeName);
+					attributePredicates[attributeIndex++] = cb.equal(root.get(idAttributeName), value);
+				}
+
+				predicates[index++] = cb.and(attributePredicates);
+			}
+
+			return cb.or(predicates);
+		}
+	}
+
 	/**
 	 * {@link Specification} that gives access to the {@link Predicate} instance representing the values contained in the
 	 * {@link Example}.
@@ -15,10 +15,11 @@
  */
 package org.springframework.data.jpa.util;
 
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.persistence.Embeddable;
@@ -31,6 +32,7 @@ import jakarta.persistence.metamodel.Type.PersistenceType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.StreamUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -45,10 +47,7 @@ public class JpaMetamodel {
 
 	private static final Map<Metamodel, JpaMetamodel> CACHE = new ConcurrentHashMap<>(4);
 
-	private final Metamodel metamodel;
-
-	private final Lazy<Collection<Class<?>>> managedTypes;
-	private final Lazy<Collection<Class<?>>> jpaEmbeddables;
+	private final Lazy<Index> index;
 
 	/**
 	 * Creates a new {@link JpaMetamodel} for the given JPA {@link Metamodel}.
@@ -59,18 +58,7 @@ public class JpaMetamodel {
 
 		Assert.notNull(metamodel, "Metamodel must not be null");
 
-		this.metamodel = metamodel;
-
-		this.managedTypes = Lazy.of(() -> metamodel.getManagedTypes().stream() //
-				.map(ManagedType::getJavaType) //
-				.filter(Objects::nonNull) //
-				.collect(StreamUtils.toUnmodifiableSet()));
-
-		this.jpaEmbeddables = Lazy.of(() -> metamodel.getEmbeddables().stream() //
-				.map(ManagedType::getJavaType)
-				.filter(Objects::nonNull)
-				.filter(it -> AnnotatedElementUtils.isAnnotated(it, Embeddable.class))
-				.collect(StreamUtils.toUnmodifiableSet()));
+		this.index = Lazy.of(() -> Index.of(metamodel));
 	}
 
 	public static JpaMetamodel of(Metamodel metamodel) {
@@ -87,7 +75,7 @@ public class JpaMetamodel {
 
 		Assert.notNull(type, "Type must not be null");
 
-		return managedTypes.get().contains(type);
+		return index.get().mappedTypes().containsKey(type);
 	}
 
 	/**
@@ -100,13 +88,9 @@ public class JpaMetamodel {
 	 */
 	public boolean isSingleIdAttribute(Class<?> entity, String name, Class<?> attributeType) {
 
-		return metamodel.getEntities().stream() //
-				.filter(it -> entity.equals(it.getJavaType())) //
-				.findFirst() //
-				.flatMap(JpaMetamodel::getSingularIdAttribute) //
-				.filter(it -> it.getJavaType().equals(attributeType)) //
-				.map(it -> it.getName().equals(name)) //
-				.orElse(false);
+		IdAttribute idAttribute = index.get().idAttributes().get(entity);
+
+		return idAttribute != null && attributeType.equals(idAttribute.type()) && name.equals(idAttribute.name());
 	}
 
 	/**
@@ -120,14 +104,7 @@ public class JpaMetamodel {
 
 		Assert.notNull(entity, "Type must not be null");
 
-		if (!isJpaManaged(entity)) {
-			return false;
-		}
-
-		ManagedType<?> managedType = metamodel.managedType(entity);
-
-		return !managedType.getPersistenceType().equals(PersistenceType.EMBEDDABLE)
-				|| jpaEmbeddables.get().contains(entity);
+		return index.get().mappedTypes().getOrDefault(entity, false);
 	}
 
 	/**
@@ -154,4 +131,59 @@ public class JpaMetamodel {
 				.filter(SingularAttribute::isId) //
 				.findFirst();
 	}
+
+	/**
+	 * Index of the {@link Metamodel} built once on first use to answer type lookups without iterating over the managed
+	 * types of the {@link Metamodel} for each persistent property.
+	 *
+	 * @param mappedTypes managed types mapped to whether they are considered {@link #isMappedType(Class) mapped}.
+	 * @param idAttributes entity types mapped to their single identifier attribute.
+	 */
+	private record Index(Map<Class<?>, Boolean> mappedTypes, Map<Class<?>, IdAttribute> idAttributes) {
+
+		static Index of(Metamodel metamodel) {
+
+			Set<Class<?>> jpaEmbeddables = metamodel.getEmbeddables().stream() //
+					.map(ManagedType::getJavaType) //
+					.filter(Objects::nonNull) //
+					.filter(it -> AnnotatedElementUtils.isAnnotated(it, Embeddable.class)) //
+					.collect(StreamUtils.toUnmodifiableSet());
+
+			Map<Class<?>, Boolean> mappedTypes = new HashMap<>();
+
+			for (ManagedType<?> managedType : metamodel.getManagedTypes()) {
+
+				Class<?> javaType = managedType.getJavaType();
+
+				if (javaType != null && !mappedTypes.containsKey(javaType)) {
+					mappedTypes.put(javaType, !PersistenceType.EMBEDDABLE.equals(managedType.getPersistenceType())
+							|| jpaEmbeddables.contains(javaType));
+				}
+			}
+
+			Map<Class<?>, IdAttribute> idAttributes = new HashMap<>();
+
+			for (EntityType<?> entityType : metamodel.getEntities()) {
+
+				Class<?> javaType = entityType.getJavaType();
+
+				if (javaType != null && !idAttributes.containsKey(javaType)) {
+					idAttributes.put(javaType, getSingularIdAttribute(entityType) //
+							.map(it -> new IdAttribute(it.getName(), it.getJavaType())) //
+							.orElse(IdAttribute.NONE));
+				}
+			}
+
+			return new Index(Map.copyOf(mappedTypes), Map.copyOf(idAttributes));
+		}
+	}
+
+	/**
+	 * Name and type of a single identifier attribute. {@link #NONE} represents entities without a single identifier
+	 * attribute.
+	 */
+	private record IdAttribute(@Nullable String name, @Nullable Class<?> type) {
+
+		static final IdAttribute NONE = new IdAttribute(null, null);
+	}
 }
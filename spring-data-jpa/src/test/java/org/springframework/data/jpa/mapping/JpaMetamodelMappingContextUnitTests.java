@@ -15,10 +15,13 @@
  */
 package org.springframework.data.jpa.mapping;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Collections;
+import java.util.Set;
 
+import jakarta.persistence.metamodel.ManagedType;
 import jakarta.persistence.metamodel.Metamodel;
 
 import org.junit.jupiter.api.Test;
@@ -40,6 +43,33 @@ class JpaMetamodelMappingContextUnitTests {
 		context.getPersistentEntity(Sample.class);
 	}
 
+	@Test
+	void resolvesManagedTypesFromIndex() {
+
+		Metamodel metamodel = mock(Metamodel.class);
+		ManagedType<?> managedType = mock(ManagedType.class);
+		doReturn(Sample.class).when(managedType).getJavaType();
+		doReturn(Set.of(managedType)).when(metamodel).getManagedTypes();
+
+		JpaMetamodelMappingContext context = new JpaMetamodelMappingContext(Collections.singleton(metamodel));
+
+		assertThat(context.hasPersistentEntityFor(Sample.class)).isTrue();
+		verify(metamodel, never()).managedType(any());
+	}
+
+	@Test
+	void looksUpTypesMissingInIndexOnce() {
+
+		Metamodel metamodel = mock(Metamodel.class);
+		when(metamodel.managedType(String.class)).thenThrow(IllegalArgumentException.class);
+
+		JpaMetamodelMappingContext context = new JpaMetamodelMappingContext(Collections.singleton(metamodel));
+
+		assertThat(context.hasPersistentEntityFor(String.class)).isFalse();
+		assertThat(context.hasPersistentEntityFor(String.class)).isFalse();
+		verify(metamodel).managedType(String.class);
+	}
+
 	private static class Sample {
 		@Version Long version;
 	}
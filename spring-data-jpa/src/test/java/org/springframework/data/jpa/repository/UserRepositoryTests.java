@@ -38,6 +38,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -67,6 +68,7 @@ import org.springframework.data.jpa.domain.sample.QUser;
 import org.springframework.data.jpa.domain.sample.Role;
 import org.springframework.data.jpa.domain.sample.SpecialUser;
 import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.query.KeysetScrollIterator;
 import org.springframework.data.jpa.repository.sample.SampleEvaluationContextExtension.SampleSecurityContextHolder;
 import org.springframework.data.jpa.repository.sample.UserRepository;
 import org.springframework.data.jpa.repository.sample.UserRepository.NameOnly;
@@ -1434,6 +1436,89 @@ class UserRepositoryTests {
 		assertThat(previousWindow.hasNext()).isFalse();
 	}
 
+	@Test
+	void streamsAllBySpecificationUsingKeysetScrolling() {
+
+		User jane1 = new User("Jane", "Doe", "jane@doe1.com");
+		User jane2 = new User("Jane", "Doe", "jane@doe2.com");
+		User john1 = new User("John", "Doe", "john@doe1.com");
+		User john2 = new User("John", "Doe", "john@doe2.com");
+		User dave = new User("Dave", "Matthews", "dave@dmband.com");
+
+		repository.saveAllAndFlush(Arrays.asList(john1, john2, jane1, dave, jane2));
+
+		Specification<User> spec = (root, query, cb) -> cb.like(root.get("firstname"), "J%");
+
+		try (Stream<User> stream = repository.streamAll(spec, Sort.by("firstname", "emailAddress"), 3)) {
+			assertThat(stream).containsExactly(jane1, jane2, john1, john2);
+		}
+
+		try (Stream<User> stream = repository.streamAll(spec, Sort.by(DESC, "emailAddress"), 1)) {
+			assertThat(stream).containsExactly(john2, john1, jane2, jane1);
+		}
+	}
+
+	@Test
+	void streamsAllBySpecificationFetchingWindowsAfterRepositoryCallReturned() {
+
+		User jane1 = new User("Jane", "Doe", "jane@doe1.com");
+		User jane2 = new User("Jane", "Doe", "jane@doe2.com");
+		User john1 = new User("John", "Doe", "john@doe1.com");
+
+		repository.saveAllAndFlush(Arrays.asList(john1, jane1, jane2));
+
+		Stream<User> stream = repository.streamAll((root, query, cb) -> cb.like(root.get("firstname"), "J%"),
+				Sort.by("emailAddress"), 1);
+
+		try (stream) {
+
+			Iterator<User> iterator = stream.iterator();
+
+			assertThat(iterator.next()).isEqualTo(jane1);
+			assertThat(iterator.next()).isEqualTo(jane2);
+			assertThat(iterator.next()).isEqualTo(john1);
+			assertThat(iterator.hasNext()).isFalse();
+		}
+	}
+
+	@Test
+	void streamsAllBySpecificationClearingBetweenWindows() {
+
+		User jane1 = new User("Jane", "Doe", "jane@doe1.com");
+		User jane2 = new User("Jane", "Doe", "jane@doe2.com");
+		User john1 = new User("John", "Doe", "john@doe1.com");
+
+		repository.saveAllAndFlush(Arrays.asList(john1, jane1, jane2));
+
+		List<User> users;
+
+		try (Stream<User> stream = repository.streamAll((root, query, cb) -> cb.like(root.get("firstname"), "J%"),
+				Sort.unsorted(), 2, true)) {
+			users = stream.toList();
+		}
+
+		assertThat(users).containsExactly(john1, jane1, jane2);
+		assertThat(em.contains(users.get(0))).isFalse();
+		assertThat(em.contains(users.get(2))).isTrue();
+	}
+
+	@Test
+	void streamsPartTreeWindowsUsingKeysetScrollIterator() {
+
+		User jane1 = new User("Jane", "Doe", "jane@doe1.com");
+		User jane2 = new User("Jane", "Doe", "jane@doe2.com");
+		User john1 = new User("John", "Doe", "john@doe1.com");
+		User john2 = new User("John", "Doe", "john@doe2.com");
+
+		repository.saveAllAndFlush(Arrays.asList(john1, john2, jane1, jane2));
+
+		Stream<User> stream = KeysetScrollIterator
+				.of(position -> repository.findTop3ByFirstnameStartingWithOrderByFirstnameAscEmailAddressAsc("J", position))
+				.stream();
+
+		assertThat(stream).containsExactly(jane1, jane2, john1, john2);
+	}
+
 	@Test // GH-3015, GH-3407
 	void shouldApplyOffsetScrollPosition() {
 
@@ -2031,6 +2116,23 @@ class UserRepositoryTests {
 		}
 	}
 
+	@Test
+	void clearsPersistenceContextWhileStreaming() {
+
+		flushTestUsers();
+
+		List<User> users;
+
+		try (Stream<User> stream = repository.streamByFirstnameNotNullOrderByIdAsc()) {
+			users = stream.toList();
+		}
+
+		assertThat(users).containsExactly(firstUser, secondUser, thirdUser, fourthUser);
+		assertThat(em.contains(users.get(0))).isFalse();
+		assertThat(em.contains(users.get(1))).isFalse();
+		assertThat(em.contains(users.get(3))).isTrue();
+	}
+
 	@Test // DATAJPA-218
 	void findAllByExample() {
 
@@ -96,6 +96,24 @@ class AbstractStringBasedJpaQueryUnitTests {
 		stringQuery.called("applySorting").times(2);
 	}
 
+	@Test
+	void sharesSortedQueriesAcrossQueryMethodsWithSameConfiguration() {
+
+		QueryCacheConfiguration configuration = QueryCacheConfiguration.create();
+
+		InvocationCapturingStringQueryStub first = forMethod(configuration, TestRepo.class, "find", Sort.class);
+		InvocationCapturingStringQueryStub second = forMethod(configuration, TestRepo.class, "findAll", Sort.class);
+
+		first.createQueryWithArguments(Sort.by("name"));
+		second.createQueryWithArguments(Sort.by("name"));
+
+		first.called("applySorting").times(1);
+		second.neverCalled("applySorting");
+
+		Assertions.assertThat(configuration.getSortedQueryCacheMetrics().getMisses()).isOne();
+		Assertions.assertThat(configuration.getSortedQueryCacheMetrics().getHits()).isOne();
+	}
+
 	interface TestRepo extends Repository<Object, Object> {
 
 		@Query("SELECT e FROM Employee e")
@@ -103,9 +121,17 @@ class AbstractStringBasedJpaQueryUnitTests {
 
 		@Query("SELECT e FROM Employee e")
 		Object find(Sort sort);
+
+		@Query("SELECT e FROM Employee e")
+		Object findAll(Sort sort);
 	}
 
 	static InvocationCapturingStringQueryStub forMethod(Class<?> repository, String method, Class<?>... args) {
+		return forMethod(QueryCacheConfiguration.create(), repository, method, args);
+	}
+
+	static InvocationCapturingStringQueryStub forMethod(QueryCacheConfiguration configuration, Class<?> repository,
+			String method, Class<?>... args) {
 
 		Method respositoryMethod = ReflectionUtils.findMethod(repository, method, args);
 		RepositoryMetadata repositoryMetadata = new DefaultRepositoryMetadata(repository);
@@ -116,7 +142,8 @@ class AbstractStringBasedJpaQueryUnitTests {
 
 		Query query = AnnotatedElementUtils.getMergedAnnotation(respositoryMethod, Query.class);
 
-		return new InvocationCapturingStringQueryStub(respositoryMethod, queryMethod, query.value(), query.countQuery());
+		return new InvocationCapturingStringQueryStub(respositoryMethod, queryMethod, query.value(), query.countQuery(),
+				configuration);
 
 	}
 
@@ -126,7 +153,7 @@ class AbstractStringBasedJpaQueryUnitTests {
 		private final MultiValueMap<String, Arguments> capturedArguments = new LinkedMultiValueMap<>(3);
 
 		InvocationCapturingStringQueryStub(Method targetMethod, JpaQueryMethod queryMethod, String queryString,
-				@Nullable String countQueryString) {
+				@Nullable String countQueryString, QueryCacheConfiguration configuration) {
 			super(queryMethod, new Supplier<EntityManager>() {
 
 				@Override
@@ -141,7 +168,7 @@ class AbstractStringBasedJpaQueryUnitTests {
 					return em;
 				}
 			}.get(), queryString, countQueryString, Mockito.mock(QueryRewriter.class),
-					ValueExpressionDelegate.create());
+					ValueExpressionDelegate.create(), configuration);
 
 			this.targetMethod = targetMethod;
 		}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.repository.query.ParametersSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link CountCache}.
+ *
+ * @author agent
+ */
+class CountCacheUnitTests {
+
+	// needs to be public
+	public static void sampleMethod(String lastname, Pageable pageable) {}
+
+	@Test
+	void cachesCountsPerBoundValues() throws Exception {
+
+		CountCache cache = new CountCache(Parent.class, Duration.ofMinutes(1), 16);
+		AtomicLong counts = new AtomicLong();
+
+		assertThat(cache.get(key("Matthews", PageRequest.of(0, 10)), counts::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.get(key("Matthews", PageRequest.of(1, 10)), counts::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.get(key("Beauford", PageRequest.of(0, 10)), counts::incrementAndGet)).isEqualTo(2);
+	}
+
+	@Test
+	void expiresCounts() throws Exception {
+
+		CountCache cache = new CountCache(Parent.class, Duration.ofNanos(1), 16);
+		AtomicLong counts = new AtomicLong();
+
+		cache.get(key("Matthews", PageRequest.of(0, 10)), counts::incrementAndGet);
+		Thread.sleep(1);
+
+		assertThat(cache.get(key("Matthews", PageRequest.of(0, 10)), counts::incrementAndGet)).isEqualTo(2);
+	}
+
+	@Test
+	void invalidatesCountsOfRelatedTypes() throws Exception {
+
+		CountCache parent = new CountCache(Parent.class, Duration.ofMinutes(1), 16);
+		CountCache child = new CountCache(Child.class, Duration.ofMinutes(1), 16);
+		CountCache unrelated = new CountCache(Unrelated.class, Duration.ofMinutes(1), 16);
+		AtomicLong counts = new AtomicLong();
+
+		parent.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet);
+		child.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet);
+		unrelated.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet);
+
+		CountCache.invalidate(Child.class);
+
+		assertThat(parent.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet)).isEqualTo(4);
+		assertThat(child.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet)).isEqualTo(5);
+		assertThat(unrelated.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet)).isEqualTo(3);
+	}
+
+	@Test
+	void bypassesCacheWithinModifyingTransaction() throws Exception {
+
+		CountCache cache = new CountCache(Parent.class, Duration.ofMinutes(1), 16);
+		AtomicLong counts = new AtomicLong();
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			CountCache.invalidate(Parent.class);
+
+			cache.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet);
+			cache.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet);
+
+			assertThat(counts).hasValue(2);
+
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+				synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+			}
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+		assertThat(cache.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet)).isEqualTo(3);
+		assertThat(cache.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet)).isEqualTo(3);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void invalidatesCountsOnRepositoryBulkDelete() throws Exception {
+
+		CountCache cache = new CountCache(Parent.class, Duration.ofMinutes(1), 16);
+		AtomicLong counts = new AtomicLong();
+
+		JpaEntityInformation<Parent, Long> information = mock(JpaEntityInformation.class);
+		EntityManager em = mock(EntityManager.class);
+
+		when(information.getJavaType()).thenReturn(Parent.class);
+		when(information.getEntityName()).thenReturn("Parent");
+		when(em.getDelegate()).thenReturn(em);
+		when(em.createQuery(anyString())).thenReturn(mock(Query.class));
+
+		SimpleJpaRepository<Parent, Long> repository = new SimpleJpaRepository<>(information, em);
+
+		cache.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet);
+		repository.deleteAllInBatch();
+
+		assertThat(cache.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet)).isEqualTo(2);
+	}
+
+	@Test
+	void discardsCountsCachedBeforeCleanup() throws Exception {
+
+		CountCache cache = new CountCache(Parent.class, Duration.ofMinutes(1), 16);
+		AtomicLong counts = new AtomicLong();
+
+		cache.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet);
+
+		new CountCacheCleanup().destroy();
+		CountCache.invalidate(Parent.class);
+
+		assertThat(cache.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet)).isEqualTo(2);
+		assertThat(cache.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet)).isEqualTo(2);
+
+		CountCache.invalidate(Parent.class);
+
+		assertThat(cache.get(key("Matthews", Pageable.unpaged()), counts::incrementAndGet)).isEqualTo(3);
+	}
+
+	private static CountCache.Key key(String lastname, Pageable pageable) throws Exception {
+
+		JpaParameters parameters = new JpaParameters(ParametersSource
+				.of(CountCacheUnitTests.class.getMethod("sampleMethod", String.class, Pageable.class)));
+
+		return CountCache.Key.of(new JpaParametersParameterAccessor(parameters, new Object[] { lastname, pageable }),
+				null);
+	}
+
+	static class Parent {}
+
+	static class Child extends Parent {}
+
+	static class Unrelated {}
+}
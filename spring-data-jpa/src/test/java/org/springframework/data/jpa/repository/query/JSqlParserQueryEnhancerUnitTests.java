@@ -51,6 +51,30 @@ public class JSqlParserQueryEnhancerUnitTests extends QueryEnhancerTckTests {
 		assertThat(sql).isEqualTo("SELECT e FROM Employee e ORDER BY e.foo ASC, e.bar ASC");
 	}
 
+	@Test
+	void derivedQueriesDoNotModifyParsedStatement() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(
+				DeclaredQuery.of("SELECT DISTINCT e.name FROM Employee e ORDER BY e.id", true));
+
+		assertThat(enhancer.applySorting(Sort.by("foo")))
+				.isEqualTo("SELECT DISTINCT e.name FROM Employee e ORDER BY e.id, e.foo ASC");
+		assertThat(enhancer.createCountQueryFor()).isEqualToIgnoringCase("SELECT count(DISTINCT e.name) FROM Employee e");
+		assertThat(enhancer.applySorting(Sort.by("bar")))
+				.isEqualTo("SELECT DISTINCT e.name FROM Employee e ORDER BY e.id, e.bar ASC");
+		assertThat(enhancer.createCountQueryFor()).isEqualToIgnoringCase("SELECT count(DISTINCT e.name) FROM Employee e");
+	}
+
+	@Test
+	void derivedSetOperationQueriesDoNotModifyParsedStatement() {
+
+		QueryEnhancer enhancer = createQueryEnhancer(
+				DeclaredQuery.of("SELECT a FROM t1 UNION SELECT a FROM t2 ORDER BY a", true));
+
+		assertThat(enhancer.applySorting(Sort.by("b"))).endsWith("ORDER BY a, b ASC");
+		assertThat(enhancer.applySorting(Sort.by("c"))).endsWith("ORDER BY a, c ASC");
+	}
+
 	@Override
 	@ParameterizedTest // GH-2773
 	@MethodSource("jpqlCountQueries")
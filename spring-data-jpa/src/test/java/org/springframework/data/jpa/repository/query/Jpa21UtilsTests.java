@@ -27,8 +27,10 @@ import jakarta.persistence.Subgraph;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Assertions;
@@ -37,6 +39,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.provider.PersistenceProvider;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.lang.Nullable;
 import org.springframework.test.context.ContextConfiguration;
@@ -166,6 +169,37 @@ class Jpa21UtilsTests {
 				em.createEntityGraph(User.class)));
 	}
 
+	@Test
+	void reusesResolvedEntityGraphAcrossEntityManagers() {
+
+		assumeThat(PersistenceProvider.fromEntityManager(em)).isEqualTo(PersistenceProvider.HIBERNATE);
+
+		JpaEntityGraph jpaEntityGraph = new JpaEntityGraph("User.adHocRoles", EntityGraphType.FETCH,
+				new String[] { "roles" });
+		EntityManager other = em.getEntityManagerFactory().createEntityManager();
+
+		try {
+
+			Object graph = getFetchGraph(em, jpaEntityGraph);
+			Object otherGraph = getFetchGraph(other, jpaEntityGraph);
+
+			Assertions.assertThat(otherGraph).isNotNull().isSameAs(graph);
+			Assertions.assertThat(other.createQuery("select u from User u", User.class)
+					.setHint(EntityGraphType.FETCH.getKey(), otherGraph).getResultList()).isNotNull();
+		} finally {
+			other.close();
+		}
+	}
+
+	@Nullable
+	private static Object getFetchGraph(EntityManager em, JpaEntityGraph jpaEntityGraph) {
+
+		Map<String, Object> hints = new HashMap<>();
+		Jpa21Utils.getFetchGraphHint(em, jpaEntityGraph, User.class).forEach(hints::put);
+
+		return hints.get(EntityGraphType.FETCH.getKey());
+	}
+
 	/**
 	 * Lookup the {@link AttributeNode} with given {@literal nodeName} in the root of the given {@literal graph}.
 	 */
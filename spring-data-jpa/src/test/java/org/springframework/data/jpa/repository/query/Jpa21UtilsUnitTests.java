@@ -15,11 +15,17 @@
  */
 package org.springframework.data.jpa.repository.query;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Subgraph;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 
@@ -47,4 +53,49 @@ class Jpa21UtilsUnitTests {
 		verify(entityGraph, times(1)).addSubgraph("gugu");
 		verify(subgraph, times(1)).addAttributeNodes("gaga");
 	}
+
+	@Test
+	void looksUpNamedEntityGraphAtMostOnceForAdHocGraphs() {
+
+		EntityManager em = mock(EntityManager.class);
+		EntityGraph<?> entityGraph = mock(EntityGraph.class);
+		when(em.getDelegate()).thenReturn(em);
+		when(em.getEntityManagerFactory()).thenReturn(mock(EntityManagerFactory.class));
+		when(em.getEntityGraph("Sample.findAll")).thenThrow(new IllegalArgumentException("No such graph"));
+		doReturn(entityGraph).when(em).createEntityGraph(Sample.class);
+
+		JpaEntityGraph jpaEntityGraph = new JpaEntityGraph("Sample.findAll", EntityGraphType.FETCH,
+				new String[] { "foo" });
+
+		for (int i = 0; i < 3; i++) {
+
+			Map<String, Object> hints = new HashMap<>();
+			Jpa21Utils.getFetchGraphHint(em, jpaEntityGraph, Sample.class).forEach(hints::put);
+
+			assertThat(hints).containsEntry(EntityGraphType.FETCH.getKey(), entityGraph);
+		}
+
+		verify(em).getEntityGraph("Sample.findAll");
+		verify(em, times(3)).createEntityGraph(Sample.class);
+	}
+
+	@Test
+	void resolvesNamedEntityGraphWithoutCreatingDynamicGraph() {
+
+		EntityManager em = mock(EntityManager.class);
+		EntityGraph<?> entityGraph = mock(EntityGraph.class);
+		when(em.getDelegate()).thenReturn(em);
+		when(em.getEntityManagerFactory()).thenReturn(mock(EntityManagerFactory.class));
+		doReturn(entityGraph).when(em).getEntityGraph("Sample.graph");
+
+		JpaEntityGraph jpaEntityGraph = new JpaEntityGraph("Sample.graph", EntityGraphType.LOAD, new String[0]);
+
+		Jpa21Utils.getFetchGraphHint(em, jpaEntityGraph, Sample.class);
+		Jpa21Utils.getFetchGraphHint(em, jpaEntityGraph, Sample.class);
+
+		verify(em, times(2)).getEntityGraph("Sample.graph");
+		verify(em, never()).createEntityGraph(any(Class.class));
+	}
+
+	static class Sample {}
 }
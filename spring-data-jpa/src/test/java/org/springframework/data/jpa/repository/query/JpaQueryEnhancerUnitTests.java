@@ -0,0 +1,177 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import org.springframework.data.jpa.repository.query.JpaQueryEnhancer.Dialect;
+import org.springframework.data.jpa.repository.query.JpaQueryEnhancer.ParseStatistics;
+
+/**
+ * Unit tests for {@link JpaQueryEnhancer}.
+ *
+ * @author agent
+ */
+@Isolated
+class JpaQueryEnhancerUnitTests {
+
+	ParseCounts before;
+
+	@BeforeEach
+	void setUp() {
+		before = ParseCounts.current();
+	}
+
+	@Test
+	void parsesValidQueryUsingSll() {
+
+		JpaQueryEnhancer enhancer = JpaQueryEnhancer.HqlQueryParser.parseQuery("select u from User u where u.age > 18");
+
+		assertThat(enhancer.detectAlias()).isEqualTo("u");
+		assertThat(parses().sll()).isOne();
+		assertThat(parses().llFallbacks()).isZero();
+		assertThat(parses().ll()).isZero();
+	}
+
+	@Test
+	void reportsSyntaxErrorAfterLlRetry() {
+
+		assertThatExceptionOfType(BadJpqlGrammarException.class)
+				.isThrownBy(() -> JpaQueryEnhancer.JpqlQueryParser.parseQuery("select u from User u where"));
+
+		assertThat(parses().sll()).isZero();
+		assertThat(parses().llFallbacks()).isOne();
+		assertThat(parses().ll()).isZero();
+	}
+
+	@Test
+	void parsesEqlQueryUsingSll() {
+
+		JpaQueryEnhancer enhancer = JpaQueryEnhancer.EqlQueryParser
+				.parseQuery("select u from User u order by u.lastname");
+
+		assertThat(enhancer.getProjection()).isEqualTo("u");
+		assertThat(parses().sll()).isOne();
+	}
+
+	@Test
+	void retriesUsingLlPredictionAfterSllFailure() {
+
+		String query = "select u from User u where u.firstname = 'sll-failure'";
+		AtomicInteger sllAttempts = new AtomicInteger();
+
+		ParserRuleContext context = JpaQueryEnhancer.parse(Dialect.JPQL, query, JpqlLexer::new, JpqlParser::new,
+				failingSll(JpqlParser::start, sllAttempts));
+
+		assertThat(context.getText()).startsWith("selectufromUseruwhereu.firstname='sll-failure'");
+		assertThat(context.exception).isNull();
+		assertThat(sllAttempts).hasValue(1);
+		assertThat(parses().sll()).isZero();
+		assertThat(parses().llFallbacks()).isOne();
+		assertThat(parses().ll()).isOne();
+
+		JpaQueryEnhancer.parse(Dialect.JPQL, query, JpqlLexer::new, JpqlParser::new,
+				failingSll(JpqlParser::start, sllAttempts));
+
+		assertThat(sllAttempts).hasValue(1);
+		assertThat(parses().llFallbacks()).isOne();
+		assertThat(parses().ll()).isEqualTo(2);
+	}
+
+	@Test
+	void remembersLlQueriesPerDialect() {
+
+		String query = "select u from User u where u.lastname = 'll-per-dialect'";
+		AtomicInteger sllAttempts = new AtomicInteger();
+
+		JpaQueryEnhancer.parse(Dialect.JPQL, query, JpqlLexer::new, JpqlParser::new,
+				failingSll(JpqlParser::start, sllAttempts));
+
+		ParserRuleContext context = JpaQueryEnhancer.parse(Dialect.HQL, query, HqlLexer::new, HqlParser::new,
+				HqlParser::start);
+
+		assertThat(context.exception).isNull();
+		assertThat(sllAttempts).hasValue(1);
+		assertThat(parses().sll()).isOne();
+		assertThat(parses().ll()).isOne();
+	}
+
+	@Test
+	void fallsBackToDefaultParsedQueryCacheSizeForInvalidValues() {
+
+		assertThat(JpaQueryEnhancer.resolveParsedQueryCacheSize(null))
+				.isEqualTo(JpaQueryEnhancer.DEFAULT_PARSED_QUERY_CACHE_SIZE);
+		assertThat(JpaQueryEnhancer.resolveParsedQueryCacheSize(" 64 ")).isEqualTo(64);
+		assertThat(JpaQueryEnhancer.resolveParsedQueryCacheSize("many"))
+				.isEqualTo(JpaQueryEnhancer.DEFAULT_PARSED_QUERY_CACHE_SIZE);
+		assertThat(JpaQueryEnhancer.resolveParsedQueryCacheSize("-1"))
+				.isEqualTo(JpaQueryEnhancer.DEFAULT_PARSED_QUERY_CACHE_SIZE);
+	}
+
+	/**
+	 * Returns the parses since {@link #setUp()}. Parse statistics are shared across the JVM, so assertions use the
+	 * difference to the counts captured before the test.
+	 */
+	private ParseCounts parses() {
+		return ParseCounts.current().since(before);
+	}
+
+	/**
+	 * Parse function that consumes the input using SLL prediction and then bails out to simulate a query requiring LL
+	 * prediction.
+	 */
+	private static <P extends Parser> Function<P, ParserRuleContext> failingSll(Function<P, ParserRuleContext> start,
+			AtomicInteger sllAttempts) {
+
+		return parser -> {
+
+			ParserRuleContext context = start.apply(parser);
+
+			if (parser.getInterpreter().getPredictionMode() == PredictionMode.SLL) {
+
+				sllAttempts.incrementAndGet();
+				throw new ParseCancellationException("SLL prediction insufficient");
+			}
+
+			return context;
+		};
+	}
+
+	private record ParseCounts(long sll, long ll, long llFallbacks) {
+
+		static ParseCounts current() {
+
+			ParseStatistics statistics = JpaQueryEnhancer.getParseStatistics();
+
+			return new ParseCounts(statistics.getSllParses(), statistics.getLlParses(), statistics.getLlFallbacks());
+		}
+
+		ParseCounts since(ParseCounts before) {
+			return new ParseCounts(sll - before.sll, ll - before.ll, llFallbacks - before.llFallbacks);
+		}
+	}
+}
@@ -24,9 +24,12 @@ import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,10 +40,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.provider.QueryExtractor;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.query.JpaQueryExecution.ClearingIterator;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.ModifyingExecution;
 import org.springframework.data.jpa.repository.query.JpaQueryExecution.PagedExecution;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
@@ -78,6 +83,7 @@ class JpaQueryExecutionUnitTests {
 		when(query.executeUpdate()).thenReturn(0);
 		when(jpaQuery.createQuery(Mockito.any(JpaParametersParameterAccessor.class))).thenReturn(query);
 		when(jpaQuery.getQueryMethod()).thenReturn(method);
+		doReturn(new DefaultJpaEntityMetadata<>(String.class)).when(method).getEntityInformation();
 	}
 
 	@Test
@@ -126,6 +132,39 @@ class JpaQueryExecutionUnitTests {
 		}.execute(jpaQuery, accessor)).isNull();
 	}
 
+	@Test
+	void clearingIteratorClearsPersistenceContextBeforeFetchingNextElement() {
+
+		ClearingIterator iterator = new ClearingIterator(Stream.of(1, 2, 3, 4, 5), em, 2);
+
+		assertThat(iterator.next()).isEqualTo(1);
+		assertThat(iterator.next()).isEqualTo(2);
+		verify(em, never()).clear();
+
+		assertThat(iterator.hasNext()).isTrue();
+		assertThat(iterator.hasNext()).isTrue();
+		verify(em, times(1)).clear();
+
+		assertThat(iterator.next()).isEqualTo(3);
+		assertThat(iterator.next()).isEqualTo(4);
+		assertThat(iterator.next()).isEqualTo(5);
+		verify(em, times(2)).clear();
+
+		assertThat(iterator.hasNext()).isFalse();
+		verify(em, times(2)).clear();
+	}
+
+	@Test
+	void clearingIteratorClosesStream() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		ClearingIterator iterator = new ClearingIterator(Stream.of(1).onClose(() -> closed.set(true)), em, 1);
+
+		iterator.close();
+
+		assertThat(closed).isTrue();
+	}
+
 	@Test // DATAJPA-806
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	void modifyingExecutionFlushesEntityManagerIfSet() {
@@ -270,6 +309,109 @@ class JpaQueryExecutionUnitTests {
 		verify(jpaQuery).createCountQuery(any());
 	}
 
+	@Test
+	void pagedExecutionEstimatesTotalBeyondCountLimit() throws Exception {
+
+		JpaParameters parameters = new JpaParameters(
+				ParametersSource.of(getClass().getMethod("sampleMethod", Pageable.class)));
+		when(jpaQuery.createQuery(Mockito.any())).thenReturn(query);
+		when(query.getResultList()).thenReturn(Arrays.asList(new Object(), new Object()),
+				Collections.singletonList(new Object()));
+
+		PagedExecution execution = new PagedExecution(null, 100, false);
+		Page<?> page = (Page<?>) execution.doExecute(jpaQuery,
+				new JpaParametersParameterAccessor(parameters, new Object[] { PageRequest.of(0, 2) }));
+
+		assertThat(page.getTotalElements()).isEqualTo(101);
+		verify(query).setFirstResult(100);
+		verify(query).setMaxResults(1);
+		verify(jpaQuery, never()).createCountQuery(any());
+	}
+
+	@Test
+	void pagedExecutionCountsExactlyWithinCountLimit() throws Exception {
+
+		JpaParameters parameters = new JpaParameters(
+				ParametersSource.of(getClass().getMethod("sampleMethod", Pageable.class)));
+		when(jpaQuery.createQuery(Mockito.any())).thenReturn(query);
+		when(jpaQuery.createCountQuery(Mockito.any())).thenReturn(countQuery);
+		when(query.getResultList()).thenReturn(Arrays.asList(new Object(), new Object()), Collections.emptyList());
+		when(countQuery.getResultList()).thenReturn(Collections.singletonList(42L));
+
+		PagedExecution execution = new PagedExecution(null, 100, false);
+		Page<?> page = (Page<?>) execution.doExecute(jpaQuery,
+				new JpaParametersParameterAccessor(parameters, new Object[] { PageRequest.of(0, 2) }));
+
+		assertThat(page.getTotalElements()).isEqualTo(42);
+	}
+
+	@Test
+	void pagedExecutionProbesBeyondRequestedPage() throws Exception {
+
+		JpaParameters parameters = new JpaParameters(
+				ParametersSource.of(getClass().getMethod("sampleMethod", Pageable.class)));
+		when(jpaQuery.createQuery(Mockito.any())).thenReturn(query);
+		when(query.getResultList()).thenReturn(Arrays.asList(new Object(), new Object()),
+				Collections.singletonList(new Object()));
+
+		PagedExecution execution = new PagedExecution(null, 10, false);
+		Page<?> page = (Page<?>) execution.doExecute(jpaQuery,
+				new JpaParametersParameterAccessor(parameters, new Object[] { PageRequest.of(10, 2) }));
+
+		assertThat(page.getTotalElements()).isEqualTo(23);
+		assertThat(page.hasNext()).isTrue();
+		verify(query).setFirstResult(22);
+	}
+
+	@Test
+	void pagedExecutionUsesCachedCount() throws Exception {
+
+		JpaParameters parameters = new JpaParameters(
+				ParametersSource.of(getClass().getMethod("sampleMethod", Pageable.class)));
+		when(jpaQuery.createQuery(Mockito.any())).thenReturn(query);
+		when(jpaQuery.createCountQuery(Mockito.any())).thenReturn(countQuery);
+		when(query.getResultList()).thenReturn(Arrays.asList(new Object(), new Object()));
+		when(countQuery.getResultList()).thenReturn(Collections.singletonList(42L));
+
+		PagedExecution execution = new PagedExecution(new CountCache(String.class, Duration.ofMinutes(1), 16), 0,
+				false);
+
+		for (int i = 0; i < 3; i++) {
+
+			Page<?> page = (Page<?>) execution.doExecute(jpaQuery,
+					new JpaParametersParameterAccessor(parameters, new Object[] { PageRequest.of(i, 2) }));
+
+			assertThat(page.getTotalElements()).isEqualTo(42);
+		}
+
+		verify(countQuery).getResultList();
+	}
+
+	@Test
+	void pagedExecutionCountsSequentiallyWithoutSharedEntityManager() throws Exception {
+
+		JpaParameters parameters = new JpaParameters(
+				ParametersSource.of(getClass().getMethod("sampleMethod", Pageable.class)));
+		when(jpaQuery.getEntityManager()).thenReturn(em);
+		when(jpaQuery.createQuery(Mockito.any())).thenReturn(query);
+		when(jpaQuery.createCountQuery(Mockito.any())).thenReturn(countQuery);
+		when(query.getResultList()).thenReturn(Arrays.asList(new Object(), new Object()));
+
+		Thread caller = Thread.currentThread();
+		when(countQuery.getResultList()).thenAnswer(invocation -> {
+
+			assertThat(Thread.currentThread()).isSameAs(caller);
+			return Collections.singletonList(42L);
+		});
+
+		PagedExecution execution = new PagedExecution(null, 0, true);
+		Page<?> page = (Page<?>) execution.doExecute(jpaQuery,
+				new JpaParametersParameterAccessor(parameters, new Object[] { PageRequest.of(0, 2) }));
+
+		assertThat(page.getTotalElements()).isEqualTo(42);
+		verifyNoInteractions(em);
+	}
+
 	@Test // DATAJPA-951
 	void doesNotPreemtivelyWrapResultIntoOptional() {
 
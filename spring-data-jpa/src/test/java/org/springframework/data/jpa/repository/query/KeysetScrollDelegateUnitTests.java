@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.ScrollPosition.Direction;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.jpa.repository.query.KeysetScrollDelegate.QueryStrategy;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit tests for {@link KeysetScrollDelegate}.
+ *
+ * @author agent
+ */
+class KeysetScrollDelegateUnitTests {
+
+	@Test
+	void createsNestedRangePredicate() {
+
+		String predicate = KeysetScrollDelegate.of(Direction.FORWARD).createPredicate(
+				ScrollPosition.forward(keyset("tenant", 1, "created", 2, "id", 3)), Sort.by("tenant", "created", "id"),
+				new StringQueryStrategy(true));
+
+		assertThat(predicate).isEqualTo("(tenant >= 1 AND (tenant > 1 OR (created >= 2 AND (created > 2 OR id > 3))))");
+	}
+
+	@Test
+	void createsNestedRangePredicateForMixedDirections() {
+
+		String predicate = KeysetScrollDelegate.of(Direction.FORWARD).createPredicate(
+				ScrollPosition.forward(keyset("created", 2, "id", 3)), Sort.by(Order.desc("created"), Order.asc("id")),
+				new StringQueryStrategy(true));
+
+		assertThat(predicate).isEqualTo("(created <= 2 AND (created < 2 OR id > 3))");
+	}
+
+	@Test
+	void fallsBackToDisjunctionIfInclusiveComparisonIsNotSupported() {
+
+		String predicate = KeysetScrollDelegate.of(Direction.FORWARD).createPredicate(
+				ScrollPosition.forward(keyset("created", 2, "id", 3)), Sort.by("created", "id"),
+				new StringQueryStrategy(false));
+
+		assertThat(predicate).isEqualTo("((created > 2) OR (created = 2 AND id > 3))");
+	}
+
+	@Test
+	void fallsBackToDisjunctionForNullKeysetValues() {
+
+		String predicate = KeysetScrollDelegate.of(Direction.FORWARD).createPredicate(
+				ScrollPosition.forward(keyset("created", null, "id", 3)), Sort.by("created", "id"),
+				new StringQueryStrategy(true));
+
+		assertThat(predicate).isEqualTo("((created > null) OR (created = null AND id > 3))");
+	}
+
+	@Test
+	void rejectsMissingKeysetValues() {
+
+		assertThatIllegalStateException().isThrownBy(() -> KeysetScrollDelegate.of(Direction.FORWARD)
+				.createPredicate(ScrollPosition.forward(keyset("created", 2)), Sort.by("created", "id"),
+						new StringQueryStrategy(true)));
+	}
+
+	private static Map<String, Object> keyset(Object... keyValues) {
+
+		Map<String, Object> keyset = new LinkedHashMap<>();
+
+		for (int i = 0; i < keyValues.length; i += 2) {
+			keyset.put((String) keyValues[i], keyValues[i + 1]);
+		}
+
+		return keyset;
+	}
+
+	static class StringQueryStrategy implements QueryStrategy<String, String> {
+
+		private final boolean supportsInclusive;
+
+		StringQueryStrategy(boolean supportsInclusive) {
+			this.supportsInclusive = supportsInclusive;
+		}
+
+		@Override
+		public String createExpression(String property) {
+			return property;
+		}
+
+		@Override
+		public String compare(Order order, String propertyExpression, Object value) {
+			return propertyExpression + (order.isAscending() ? " > " : " < ") + value;
+		}
+
+		@Nullable
+		@Override
+		public String compareInclusive(Order order, String propertyExpression, Object value) {
+			return supportsInclusive ? propertyExpression + (order.isAscending() ? " >= " : " <= ") + value : null;
+		}
+
+		@Override
+		public String compare(String propertyExpression, @Nullable Object value) {
+			return propertyExpression + " = " + value;
+		}
+
+		@Override
+		public String and(List<String> intermediate) {
+			return "(" + String.join(" AND ", intermediate) + ")";
+		}
+
+		@Override
+		public String or(List<String> intermediate) {
+			return "(" + String.join(" OR ", intermediate) + ")";
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+/**
+ * Unit tests for {@link KeysetScrollIterator}.
+ *
+ * @author agent
+ */
+class KeysetScrollIteratorUnitTests {
+
+	@Test
+	void iteratesThroughAllWindows() {
+
+		List<KeysetScrollPosition> positions = new ArrayList<>();
+		AtomicInteger callbacks = new AtomicInteger();
+
+		List<Integer> result = KeysetScrollIterator.<Integer> of(position -> {
+
+			positions.add(position);
+			return window(position, 2, 5);
+		}, ScrollPosition.keyset(), callbacks::incrementAndGet).stream().toList();
+
+		assertThat(result).containsExactly(1, 2, 3, 4, 5);
+		assertThat(positions).hasSize(3).first().matches(ScrollPosition::isInitial);
+		assertThat(positions.get(1).getKeys()).containsEntry("value", 2);
+		assertThat(positions.get(2).getKeys()).containsEntry("value", 4);
+		assertThat(callbacks).hasValue(2);
+	}
+
+	@Test
+	void stopsOnEmptyWindow() {
+
+		AtomicInteger calls = new AtomicInteger();
+
+		KeysetScrollIterator<Integer> iterator = KeysetScrollIterator.of(position -> {
+
+			calls.incrementAndGet();
+			return window(position, 2, 0);
+		});
+
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(calls).hasValue(1);
+		assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+	}
+
+	@Test
+	void doesNotFetchWindowsEagerly() {
+
+		AtomicInteger calls = new AtomicInteger();
+
+		KeysetScrollIterator<Integer> iterator = KeysetScrollIterator.of(position -> {
+
+			calls.incrementAndGet();
+			return window(position, 2, 10);
+		});
+
+		assertThat(calls).hasValue(0);
+		assertThat(iterator.next()).isEqualTo(1);
+		assertThat(iterator.next()).isEqualTo(2);
+		assertThat(calls).hasValue(1);
+	}
+
+	/**
+	 * Creates a window of up to {@code size} consecutive numbers following the position out of {@code 1…total}.
+	 */
+	private static Window<Integer> window(KeysetScrollPosition position, int size, int total) {
+
+		int start = position.isInitial() ? 1 : (Integer) position.getKeys().get("value") + 1;
+		List<Integer> content = new ArrayList<>();
+
+		for (int i = start; i < start + size && i <= total; i++) {
+			content.add(i);
+		}
+
+		return Window.from(content, index -> ScrollPosition.forward(Map.of("value", content.get(index))),
+				start + size <= total);
+	}
+}
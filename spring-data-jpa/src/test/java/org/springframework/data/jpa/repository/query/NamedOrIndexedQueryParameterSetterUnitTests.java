@@ -190,6 +190,27 @@ class NamedOrIndexedQueryParameterSetterUnitTests {
 
 	}
 
+	@Test
+	void resolvesBindingTargetOnlyOnce() {
+
+		Query query = mock(Query.class);
+		doReturn(Collections.singleton(new ParameterImpl(null, 1))).when(query).getParameters();
+
+		Parameter<?> parameter = mock(Parameter.class);
+		when(parameter.getPosition()).thenReturn(1);
+
+		NamedOrIndexedQueryParameterSetter setter = new NamedOrIndexedQueryParameterSetter(firstValueExtractor, parameter,
+				null);
+
+		QueryParameterSetter.BindableQuery bindableQuery = QueryParameterSetter.BindableQuery.from(query);
+		setter.setParameter(bindableQuery, methodArguments, STRICT);
+		setter.setParameter(bindableQuery, methodArguments, STRICT);
+
+		verify(query, times(2)).setParameter(eq(1), any(Date.class));
+		verify(parameter).getName();
+		verify(parameter).getPosition();
+	}
+
 	@SuppressWarnings("unchecked")
 	private static Query mockExceptionThrowingQueryWithNamedParameters() {
 
@@ -25,12 +25,19 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 import jakarta.persistence.TemporalType;
+import jakarta.persistence.TypedQuery;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.hibernate.Version;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,16 +47,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.sample.User;
 import org.springframework.data.jpa.provider.HibernateUtils;
 import org.springframework.data.jpa.provider.PersistenceProvider;
+import org.springframework.data.jpa.repository.CountOptions;
 import org.springframework.data.jpa.repository.Temporal;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.query.Param;
+import org.springframework.orm.jpa.EntityManagerProxy;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Integration tests for {@link PartTreeJpaQuery}.
@@ -116,6 +129,173 @@ class PartTreeJpaQueryIntegrationTests {
 		assertThat(HibernateUtils.getHibernateQuery(query.unwrap(HIBERNATE_NATIVE_QUERY))).endsWith("firstname is null");
 	}
 
+	@Test
+	void reusesQueryShapeForNullArguments() throws Exception {
+
+		JpaQueryMethod queryMethod = getQueryMethod("findByFirstnameAndLastname", String.class, String.class);
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(queryMethod, entityManager);
+		ConcurrentLruCache<?, ?> shapeCache = (ConcurrentLruCache<?, ?>) ReflectionTestUtils
+				.getField(ReflectionTestUtils.getField(jpaQuery, "query"), "shapeCache");
+
+		jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { "Dave", "Matthews" }));
+		assertThat(shapeCache.size()).isZero();
+
+		jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { null, "Matthews" })).getResultList();
+		jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { null, "Beauford" })).getResultList();
+		assertThat(shapeCache.size()).isOne();
+
+		jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { "Dave", null })).getResultList();
+		jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { null, null })).getResultList();
+		assertThat(shapeCache.size()).isEqualTo(3);
+	}
+
+	@Test
+	void createsQueriesFromCachedCriteriaConcurrently() throws Exception {
+
+		JpaQueryMethod queryMethod = getQueryMethod("findByFirstnameAndLastname", String.class, String.class);
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(queryMethod, entityManager);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (int i = 0; i < 64; i++) {
+
+				String firstname = "Dave" + i;
+				futures.add(executor.submit(() -> jpaQuery
+						.createQuery(getAccessor(queryMethod, new Object[] { firstname, "Matthews" })).getResultList()));
+			}
+
+			for (Future<?> future : futures) {
+				assertThat((List<?>) future.get()).isEmpty();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		Collection<?> idle = (Collection<?>) ReflectionTestUtils.getField(
+				ReflectionTestUtils.getField(ReflectionTestUtils.getField(jpaQuery, "query"), "cachedQueries"), "idle");
+
+		assertThat(idle).isNotEmpty().hasSizeLessThanOrEqualTo(PartTreeJpaQuery.MAX_IDLE_PREPARED_QUERIES);
+	}
+
+	@Test
+	void countsConcurrentlyUsingSeparateEntityManager() throws Exception {
+
+		JpaQueryMethod queryMethod = getQueryMethod("findByLastname", String.class, Pageable.class);
+		AtomicReference<Thread> countThread = new AtomicReference<>();
+		AtomicReference<EntityManager> countEntityManager = new AtomicReference<>();
+		AtomicBoolean readOnlyTransaction = new AtomicBoolean();
+
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(queryMethod, entityManager) {
+
+			@Override
+			public TypedQuery<Long> doCreateCountQuery(JpaParametersParameterAccessor accessor) {
+
+				countThread.set(Thread.currentThread());
+				countEntityManager.set(((EntityManagerProxy) entityManager).getTargetEntityManager());
+				readOnlyTransaction.set(TransactionSynchronizationManager.isActualTransactionActive()
+						&& TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+
+				return super.doCreateCountQuery(accessor);
+			}
+		};
+
+		Page<?> page = (Page<?>) jpaQuery.execute(new Object[] { "Matthews", PageRequest.of(1, 1) });
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isZero();
+		assertThat(countThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
+		assertThat(countEntityManager.get()).isNotNull();
+		assertThat(countEntityManager.get().isOpen()).isFalse();
+		assertThat(readOnlyTransaction).isTrue();
+	}
+
+	@Test
+	void rendersJpqlForDerivedQuery() throws Exception {
+
+		JpaQueryMethod queryMethod = getQueryMethod("findByFirstnameAndLastname", String.class, String.class);
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(queryMethod, entityManager, EscapeCharacter.DEFAULT, true);
+
+		Query query = jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { "Dave", "Matthews" }));
+
+		assertThat(getQueryString(query)).isEqualTo("select x from User x where x.firstname = :p1 and x.lastname = :p2");
+		assertThat(query.getParameterValue("p1")).isEqualTo("Dave");
+		assertThat(query.getResultList()).isEmpty();
+
+		query = jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { null, "Matthews" }));
+
+		assertThat(getQueryString(query)).isEqualTo("select x from User x where x.firstname is null and x.lastname = :p2");
+		assertThat(query.getResultList()).isEmpty();
+	}
+
+	@Test
+	void rendersJpqlWithSortingAndCountQuery() throws Exception {
+
+		JpaQueryMethod queryMethod = getQueryMethod("findByFirstname", String.class, Pageable.class);
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(queryMethod, entityManager, EscapeCharacter.DEFAULT, true);
+		JpaParametersParameterAccessor accessor = getAccessor(queryMethod,
+				new Object[] { "Dave", PageRequest.of(0, 1, Sort.by("lastname").ascending().and(Sort.by("age").descending())) });
+
+		Query query = jpaQuery.createQuery(accessor);
+
+		assertThat(getQueryString(query))
+				.isEqualTo("select x from User x where x.firstname = :p1 order by x.lastname asc, x.age desc");
+		assertThat(query.getMaxResults()).isOne();
+		assertThat(getQueryString(jpaQuery.createCountQuery(accessor)))
+				.isEqualTo("select count(x) from User x where x.firstname = :p1");
+	}
+
+	@Test
+	void rendersJpqlForInLikeAndIgnoreCase() throws Exception {
+
+		JpaQueryMethod queryMethod = getQueryMethod("findByFirstnameInAndLastnameContainingIgnoreCase", Collection.class,
+				String.class);
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(queryMethod, entityManager, EscapeCharacter.DEFAULT, true);
+
+		Query query = jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of("Dave"), "at_" }));
+
+		assertThat(getQueryString(query)).isEqualTo(
+				"select x from User x where x.firstname in :p1 and upper(x.lastname) like upper(:p2) escape '\\'");
+		assertThat(query.getParameterValue("p2")).isEqualTo("%at\\_%");
+		assertThat(query.getResultList()).isEmpty();
+	}
+
+	@Test
+	void fallsBackToCriteriaQueryForAssociations() throws Exception {
+
+		JpaQueryMethod queryMethod = getQueryMethod("findByManagerFirstname", String.class);
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(queryMethod, entityManager, EscapeCharacter.DEFAULT, true);
+
+		assertThat(ReflectionTestUtils.getField(ReflectionTestUtils.getField(jpaQuery, "query"), "renderedQueries"))
+				.isNull();
+		assertThat(jpaQuery.createQuery(getAccessor(queryMethod, new Object[] { "Dave" })).getResultList()).isEmpty();
+	}
+
+	@Test
+	void keysCountQueryShapesByNullArgumentsOnly() throws Exception {
+
+		JpaQueryMethod queryMethod = getQueryMethod("findByFirstname", String.class, Pageable.class);
+		PartTreeJpaQuery jpaQuery = new PartTreeJpaQuery(queryMethod, entityManager);
+		Object countQuery = ReflectionTestUtils.getField(jpaQuery, "countQuery");
+
+		jpaQuery.doCreateCountQuery(getAccessor(queryMethod,
+				new Object[] { "Dave", PageRequest.of(0, 1, Sort.by("firstname")) })).getSingleResult();
+		jpaQuery.doCreateCountQuery(getAccessor(queryMethod,
+				new Object[] { "Dave", PageRequest.of(0, 1, Sort.by("lastname")) })).getSingleResult();
+		jpaQuery.doCreateCountQuery(getAccessor(queryMethod, new Object[] { "Dave", PageRequest.of(0, 1) }))
+				.getSingleResult();
+
+		assertThat(cachedShapes(countQuery, "shapeCache") + cachedShapes(countQuery, "renderedQueries")).isOne();
+	}
+
+	private static int cachedShapes(Object preparer, String field) {
+
+		ConcurrentLruCache<?, ?> cache = (ConcurrentLruCache<?, ?>) ReflectionTestUtils.getField(preparer, field);
+		return cache != null ? cache.size() : 0;
+	}
+
 	@Test // DATAJPA-920
 	void shouldLimitExistsProjectionQueries() throws Exception {
 
@@ -256,6 +436,10 @@ class PartTreeJpaQueryIntegrationTests {
 				new SpelAwareProxyProjectionFactory(), PersistenceProvider.fromEntityManager(entityManager));
 	}
 
+	private static String getQueryString(Query query) {
+		return query.unwrap(org.hibernate.query.Query.class).getQueryString();
+	}
+
 	private JpaParametersParameterAccessor getAccessor(JpaQueryMethod queryMethod, Object[] values) {
 		return new JpaParametersParameterAccessor(queryMethod.getParameters(), values);
 	}
@@ -277,6 +461,15 @@ class PartTreeJpaQueryIntegrationTests {
 
 		Page<User> findByFirstname(String firstname, Pageable pageable);
 
+		@CountOptions(concurrent = true)
+		Page<User> findByLastname(String lastname, Pageable pageable);
+
+		List<User> findByFirstnameAndLastname(String firstname, String lastname);
+
+		List<User> findByFirstnameInAndLastnameContainingIgnoreCase(Collection<String> firstnames, String lastname);
+
+		List<User> findByManagerFirstname(String firstname);
+
 		User findByIdIgnoringCase(Integer id);
 
 		User findByIdAllIgnoringCase(Integer id);
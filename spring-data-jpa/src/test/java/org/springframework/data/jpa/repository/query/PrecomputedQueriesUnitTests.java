@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.sample.User;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.query.PrecomputedQueries.PrecomputedQuery;
+import org.springframework.data.jpa.repository.query.PrecomputedQueries.PrecomputedQueryEnhancer;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.util.Streamable;
+import org.springframework.data.util.TypeInformation;
+
+/**
+ * Unit tests for {@link PrecomputedQueries}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PrecomputedQueriesUnitTests {
+
+	@Mock RepositoryInformation information;
+
+	@BeforeEach
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void setUp() {
+
+		when(information.getRepositoryInterface()).thenReturn((Class) SampleRepository.class);
+		when(information.getDomainType()).thenReturn((Class) User.class);
+		when(information.getDomainTypeInformation()).thenReturn((TypeInformation) TypeInformation.of(User.class));
+		when(information.getReturnedDomainClass(any(Method.class))).thenReturn((Class) User.class);
+		when(information.getReturnType(any(Method.class)))
+				.thenAnswer(invocation -> TypeInformation.fromReturnTypeOf(invocation.getArgument(0)));
+	}
+
+	@Test
+	void rendersDeclaredJpqlQueries() throws Exception {
+
+		when(information.getQueryMethods())
+				.thenReturn(Streamable.of(SampleRepository.class.getMethod("findByLastname", String.class),
+						SampleRepository.class.getMethod("findNativeByLastname", String.class)));
+
+		Properties properties = load(PrecomputedQueries.render(information));
+
+		assertThat(properties.getProperty("query.0")).isEqualTo("select u from User u where u.lastname = ?1");
+		assertThat(properties.getProperty("query.0.alias")).isEqualTo("u");
+		assertThat(properties.getProperty("query.0.projection")).isEqualTo("u");
+		assertThat(properties.getProperty("query.0.constructor-expression")).isEqualTo("false");
+		assertThat(properties.getProperty("query.0.count-query"))
+				.isEqualTo("select count(u) from User u where u.lastname = ?1");
+		assertThat(properties.getProperty("query.1")).isEqualTo("select count(u) from User u where u.lastname = ?1");
+		assertThat(properties).doesNotContainKey("query.2");
+	}
+
+	@Test
+	void rendersNothingWithoutDeclaredJpqlQueries() throws Exception {
+
+		when(information.getQueryMethods())
+				.thenReturn(Streamable.of(SampleRepository.class.getMethod("findNativeByLastname", String.class)));
+
+		assertThat(PrecomputedQueries.render(information)).isNull();
+	}
+
+	@Test
+	void registersRenderedQueriesForQueryEnhancerFactory(@TempDir Path directory) throws Exception {
+
+		when(information.getQueryMethods())
+				.thenReturn(Streamable.of(SampleRepository.class.getMethod("findByLastname", String.class)));
+
+		Path resource = directory.resolve(PrecomputedQueries.getResourceLocation(SampleRepository.class));
+		Files.createDirectories(resource.getParent());
+		Files.writeString(resource, PrecomputedQueries.render(information));
+
+		DeclaredQuery query = DeclaredQuery.of("select u from User u where u.lastname = ?1", false);
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() },
+				getClass().getClassLoader())) {
+
+			PrecomputedQueries.clear();
+			PrecomputedQueries.register(SampleRepository.class, classLoader);
+
+			QueryEnhancer enhancer = QueryEnhancerFactory.forQuery(query);
+
+			assertThat(enhancer).isInstanceOf(PrecomputedQueryEnhancer.class);
+			assertThat(enhancer.detectAlias()).isEqualTo("u");
+			assertThat(enhancer.createCountQueryFor(null)).isEqualTo("select count(u) from User u where u.lastname = ?1");
+		} finally {
+			PrecomputedQueries.clear();
+		}
+
+		assertThat(QueryEnhancerFactory.forQuery(query)).isNotInstanceOf(PrecomputedQueryEnhancer.class);
+	}
+
+	@Test
+	void servesPrecomputedMetadata() {
+
+		DeclaredQuery query = DeclaredQuery.of("select u from User u", false);
+		PrecomputedQueryEnhancer enhancer = new PrecomputedQueryEnhancer(query,
+				new PrecomputedQuery("hql", "x", "x", false, null, "select count(x) from User x"));
+
+		assertThat(enhancer.detectAlias()).isEqualTo("x");
+		assertThat(enhancer.getProjection()).isEqualTo("x");
+		assertThat(enhancer.createCountQueryFor(null)).isEqualTo("select count(x) from User x");
+	}
+
+	@Test
+	void parsesQueryForSortingAndDifferentCountProjection() {
+
+		DeclaredQuery query = DeclaredQuery.of("select u from User u", false);
+		PrecomputedQueryEnhancer enhancer = new PrecomputedQueryEnhancer(query,
+				new PrecomputedQuery("hql", "u", "u", false, null, "select count(u) from User u"));
+
+		assertThat(enhancer.applySorting(Sort.by("lastname"))).isEqualTo("select u from User u order by u.lastname asc");
+		assertThat(enhancer.createCountQueryFor("u.id")).isEqualTo("select count(u.id) from User u");
+	}
+
+	private static Properties load(String content) throws IOException {
+
+		Properties properties = new Properties();
+		properties.load(new StringReader(content));
+		return properties;
+	}
+
+	interface SampleRepository extends Repository<User, Integer> {
+
+		@Query("select u from User u where u.lastname = ?1")
+		List<User> findByLastname(String lastname);
+
+		@Query(value = "select * from SD_User u where u.lastname = ?1", nativeQuery = true)
+		List<User> findNativeByLastname(String lastname);
+	}
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.query.QueryEnhancerFactory.NativeQueryEnhancer;
 import org.springframework.data.jpa.util.ClassPathExclusions;
 import org.springframework.lang.Nullable;
@@ -53,6 +54,37 @@ class QueryEnhancerFactoryUnitTests {
 		assertThat(queryParsingEnhancer).isInstanceOf(JpaQueryEnhancer.HqlQueryParser.class);
 	}
 
+	@Test
+	void reusesParsedQueryForSameQueryString() {
+
+		StringQuery query = new StringQuery("select u from User u where u.firstname = :firstname", false);
+
+		QueryEnhancer first = QueryEnhancerFactory.forQuery(query);
+		QueryEnhancer second = QueryEnhancerFactory.forQuery(query);
+
+		assertThat(second).isSameAs(first);
+		assertThat(second.applySorting(Sort.by("lastname"))).endsWith("order by u.lastname asc");
+	}
+
+	@Test
+	void parsedQueryCacheDistinguishesDialects() {
+
+		StringQuery query = new StringQuery("select u from User u", false);
+
+		assertThat(JpaQueryEnhancer.forHql(query)).isNotSameAs(JpaQueryEnhancer.forJpql(query))
+				.isSameAs(JpaQueryEnhancer.forHql(query));
+		assertThat(JpaQueryEnhancer.forJpql(query)).isInstanceOf(JpaQueryEnhancer.JpqlQueryParser.class);
+	}
+
+	@Test
+	void doesNotCacheInvalidQueries() {
+
+		DeclaredQuery query = DeclaredQuery.of("select * from User group by name", false);
+
+		assertThatExceptionOfType(BadJpqlGrammarException.class).isThrownBy(() -> JpaQueryEnhancer.forHql(query));
+		assertThatExceptionOfType(BadJpqlGrammarException.class).isThrownBy(() -> JpaQueryEnhancer.forHql(query));
+	}
+
 	@Test
 	void createsJSqlImplementationForNativeQuery() {
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.Query;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryParameterSetter.QueryMetadata;
+import org.springframework.data.jpa.repository.query.QueryParameterSetter.QueryMetadataCache;
+
+/**
+ * Unit tests for {@link QueryMetadataCache}.
+ *
+ * @author agent
+ */
+class QueryMetadataCacheUnitTests {
+
+	Query query = mock(Query.class);
+
+	@Test
+	void cachesMetadataByKey() {
+
+		QueryCacheMetrics metrics = new QueryCacheMetrics();
+		QueryMetadataCache cache = new QueryMetadataCache(4, metrics);
+
+		QueryMetadata first = cache.getMetadata(Sort.by("firstname"), query);
+		QueryMetadata second = cache.getMetadata(Sort.by("firstname"), query);
+
+		assertThat(second).isSameAs(first);
+		assertThat(metrics.getMisses()).isOne();
+		assertThat(metrics.getHits()).isOne();
+		assertThat(metrics.getEvictions()).isZero();
+	}
+
+	@Test
+	void evictsEntriesExceedingCapacity() {
+
+		QueryCacheMetrics metrics = new QueryCacheMetrics();
+		QueryMetadataCache cache = new QueryMetadataCache(2, metrics);
+
+		cache.getMetadata(Sort.by("a"), query);
+		cache.getMetadata(Sort.by("b"), query);
+		QueryMetadata metadata = cache.getMetadata(Sort.by("c"), query);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(metrics.getMisses()).isEqualTo(3);
+		assertThat(metrics.getEvictions()).isOne();
+		assertThat(cache.getMetadata(Sort.by("c"), query)).isSameAs(metadata);
+	}
+
+	@Test
+	void configurationReportsMetricsOfCreatedCaches() {
+
+		QueryCacheConfiguration configuration = QueryCacheConfiguration.create().withMetadataCacheSize(1);
+
+		configuration.createMetadataCache().getMetadata("query", query);
+		configuration.createMetadataCache().getMetadata("query", query);
+
+		assertThat(configuration.getMetadataCacheSize()).isOne();
+		assertThat(configuration.getMetadataCacheMetrics().getMisses()).isEqualTo(2);
+	}
+
+	@Test
+	void derivedConfigurationRetainsMetrics() {
+
+		QueryCacheConfiguration configuration = QueryCacheConfiguration.create();
+		QueryCacheConfiguration derived = configuration.withMetadataCacheSize(4).withSortedQueryCacheSize(8);
+
+		derived.createMetadataCache().getMetadata("query", query);
+
+		assertThat(derived.getMetadataCacheMetrics()).isSameAs(configuration.getMetadataCacheMetrics());
+		assertThat(derived.getSortedQueryCacheMetrics()).isSameAs(configuration.getSortedQueryCacheMetrics());
+		assertThat(configuration.getMetadataCacheMetrics().getMisses()).isOne();
+	}
+
+	@Test
+	void rejectsInvalidCapacity() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new QueryMetadataCache(0, new QueryCacheMetrics()));
+		assertThatIllegalArgumentException().isThrownBy(() -> QueryCacheConfiguration.create().withMetadataCacheSize(0));
+	}
+}
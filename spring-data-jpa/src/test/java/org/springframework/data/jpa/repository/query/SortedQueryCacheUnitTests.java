@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.AbstractStringBasedJpaQuery.CachableQuery;
+
+/**
+ * Unit tests for {@link SortedQueryCache}.
+ *
+ * @author agent
+ */
+class SortedQueryCacheUnitTests {
+
+	AtomicInteger renderCount = new AtomicInteger();
+	Function<CachableQuery, String> renderer = it -> {
+		renderCount.incrementAndGet();
+		return it.getDeclaredQuery().getQueryString() + " order by " + it.getSort();
+	};
+
+	@Test
+	void cachesSortedQueries() {
+
+		QueryCacheMetrics metrics = new QueryCacheMetrics();
+		SortedQueryCache cache = new SortedQueryCache(2, metrics);
+		DeclaredQuery query = DeclaredQuery.of("select u from User u", false);
+
+		String first = cache.getSorted(new CachableQuery(query, Sort.by("name"), renderer));
+		String second = cache.getSorted(new CachableQuery(query, Sort.by("name"), renderer));
+
+		assertThat(second).isSameAs(first);
+		assertThat(renderCount).hasValue(1);
+		assertThat(metrics.getHits()).isOne();
+		assertThat(metrics.getMisses()).isOne();
+	}
+
+	@Test
+	void distinguishesNativeQueries() {
+
+		SortedQueryCache cache = new SortedQueryCache(2, new QueryCacheMetrics());
+
+		cache.getSorted(new CachableQuery(DeclaredQuery.of("select * from users", false), Sort.by("name"), renderer));
+		cache.getSorted(new CachableQuery(DeclaredQuery.of("select * from users", true), Sort.by("name"), renderer));
+
+		assertThat(renderCount).hasValue(2);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedQueries() {
+
+		QueryCacheMetrics metrics = new QueryCacheMetrics();
+		SortedQueryCache cache = new SortedQueryCache(2, metrics);
+		DeclaredQuery query = DeclaredQuery.of("select u from User u", false);
+
+		cache.getSorted(new CachableQuery(query, Sort.by("a"), renderer));
+		cache.getSorted(new CachableQuery(query, Sort.by("b"), renderer));
+		cache.getSorted(new CachableQuery(query, Sort.by("c"), renderer));
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(metrics.getEvictions()).isOne();
+	}
+}
@@ -40,10 +40,12 @@ import org.springframework.data.jpa.domain.sample.SpecialUser;
 import org.springframework.data.jpa.domain.sample.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.JpaSpecificationStreamExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.StreamOptions;
 import org.springframework.data.jpa.repository.query.Procedure;
 import org.springframework.data.querydsl.ListQuerydslPredicateExecutor;
 import org.springframework.data.repository.CrudRepository;
@@ -66,7 +68,7 @@ import org.springframework.transaction.annotation.Transactional;
  * @author Yanming Zhou
  */
 public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecificationExecutor<User>,
-		UserRepositoryCustom, ListQuerydslPredicateExecutor<User> {
+		JpaSpecificationStreamExecutor<User>, UserRepositoryCustom, ListQuerydslPredicateExecutor<User> {
 
 	/**
 	 * Retrieve users by their lastname. The finder {@literal User.findByLastname} is declared in
@@ -523,6 +525,9 @@ public interface UserRepository extends JpaRepository<User, Integer>, JpaSpecifi
 	@Query("select u from User u")
 	Stream<User> streamAllPaged(Pageable pageable);
 
+	@StreamOptions(fetchSize = 2, readOnly = true, clearInterval = 2)
+	Stream<User> streamByFirstnameNotNullOrderByIdAsc();
+
 	// DATAJPA-830
 	List<User> findByLastnameNotContaining(String part);
 
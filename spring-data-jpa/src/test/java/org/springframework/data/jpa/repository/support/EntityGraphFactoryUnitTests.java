@@ -16,6 +16,7 @@
 package org.springframework.data.jpa.repository.support;
 
 import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -26,10 +27,14 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.Subgraph;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.ConcurrentLruCache;
+
 /**
  * Unit tests for {@link EntityGraphFactory}.
  *
@@ -91,6 +96,49 @@ class EntityGraphFactoryUnitTests {
 		verify(one).addAttributeNodes("two");
 	}
 
+	@Test
+	void resolvesPropertyPathsIntoGraphDefinition() {
+
+		EntityGraphFactory.GraphDefinition definition = EntityGraphFactory.GraphDefinition.of(DummyEntity.class,
+				new LinkedHashSet<>(asList("one", "eins.zwei.drei", "eins.two")));
+
+		assertThat(definition.attributes()).containsExactly("one");
+		assertThat(definition.subgraphs()).containsOnlyKeys("eins");
+
+		EntityGraphFactory.GraphDefinition eins = definition.subgraphs().get("eins");
+		assertThat(eins.attributes()).containsExactly("two");
+		assertThat(eins.subgraphs().get("zwei").attributes()).containsExactly("drei");
+	}
+
+	@Test
+	void appliesCachedDefinitionToNewEntityGraph() {
+
+		EntityGraphFactory.create(em, DummyEntity.class, new HashSet<>(asList("one.two")));
+
+		EntityGraph next = mock(EntityGraph.class, RETURNS_DEEP_STUBS);
+		when(em.createEntityGraph(DummyEntity.class)).thenReturn(next);
+
+		assertThat(EntityGraphFactory.create(em, DummyEntity.class, new HashSet<>(asList("one.two")))).isSameAs(next);
+
+		verify(next).addSubgraph("one");
+		Subgraph<?> one = next.addSubgraph("one");
+		verify(one).addAttributeNodes("two");
+	}
+
+	@Test
+	void cleanupClearsCachedDefinitions() throws Exception {
+
+		EntityGraphFactory.create(em, DummyEntity.class, new HashSet<>(asList("one.two")));
+
+		ConcurrentLruCache<?, ?> definitions = (ConcurrentLruCache<?, ?>) ReflectionTestUtils
+				.getField(EntityGraphFactory.class, "DEFINITIONS");
+		assertThat(definitions.size()).isNotZero();
+
+		new EntityGraphCacheCleanup().destroy();
+
+		assertThat(definitions.size()).isZero();
+	}
+
 	private static class DummyEntity {
 		DummyEntity one;
 		DummyEntity two;
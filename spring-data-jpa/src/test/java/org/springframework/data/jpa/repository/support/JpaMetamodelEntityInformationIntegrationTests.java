@@ -23,6 +23,8 @@ import jakarta.persistence.*;
 import java.io.Serializable;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Disabled;
@@ -317,6 +319,32 @@ public abstract class JpaMetamodelEntityInformationIntegrationTests {
 		assertThat(id).isEqualTo(42L);
 	}
 
+	@Test
+	void extractsKeysetWithIdAndNestedProperties() {
+
+		JpaEntityInformation<User, ?> information = getEntityInformation(User.class, em);
+
+		User user = new User("Dave", "Matthews", "dave@dmband.com");
+		user.setId(42);
+		user.setAddress(new Address("USA", "Charlottesville", "Main Street", "1"));
+
+		Map<String, Object> keyset = information.getKeysetExtractor(List.of("lastname", "address.city")).apply(user);
+
+		assertThat(keyset).containsExactly(entry("id", 42), entry("lastname", "Matthews"),
+				entry("address.city", "Charlottesville"));
+		assertThat(keyset).isEqualTo(information.getKeyset(List.of("lastname", "address.city"), user));
+	}
+
+	@Test
+	void extractsKeysetForEntityWithIdClass() {
+
+		JpaEntityInformation<Item, ?> information = getEntityInformation(Item.class, em);
+
+		Map<String, Object> keyset = information.getKeysetExtractor(List.of("name")).apply(new Item(2, 1, "Guitar"));
+
+		assertThat(keyset).containsOnly(entry("id", 2), entry("manufacturerId", 1), entry("name", "Guitar"));
+	}
+
 	@SuppressWarnings("serial")
 	private static class BaseIdClass implements Serializable {
 
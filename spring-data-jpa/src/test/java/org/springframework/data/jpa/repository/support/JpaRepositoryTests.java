@@ -32,6 +32,7 @@ import org.springframework.data.jpa.domain.sample.PersistableWithIdClass;
 import org.springframework.data.jpa.domain.sample.PersistableWithIdClassPK;
 import org.springframework.data.jpa.domain.sample.SampleEntity;
 import org.springframework.data.jpa.domain.sample.SampleEntityPK;
+import org.springframework.data.jpa.repository.JpaBatchExecutor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.test.context.ContextConfiguration;
@@ -54,7 +55,7 @@ class JpaRepositoryTests {
 
 	@PersistenceContext EntityManager em;
 
-	private JpaRepository<SampleEntity, SampleEntityPK> repository;
+	private SampleEntityRepository repository;
 	private CrudRepository<PersistableWithIdClass, PersistableWithIdClassPK> idClassRepository;
 
 	@BeforeEach
@@ -79,6 +80,38 @@ class JpaRepositoryTests {
 		assertThat(repository.count()).isZero();
 	}
 
+	@Test
+	void savesAllInBatches() {
+
+		SampleEntity one = new SampleEntity("one", "eins");
+		SampleEntity two = new SampleEntity("two", "zwei");
+		SampleEntity three = new SampleEntity("three", "drei");
+
+		assertThat(repository.saveAllInBatches(Arrays.asList(one, two, three), 2)).isEqualTo(3);
+
+		assertThat(repository.count()).isEqualTo(3);
+	}
+
+	@Test
+	void persistsAllInBatches() {
+
+		SampleEntity one = new SampleEntity("one", "eins");
+		SampleEntity two = new SampleEntity("two", "zwei");
+
+		assertThat(repository.persistAllInBatches(Arrays.asList(one, two), 1)).isEqualTo(2);
+
+		assertThat(em.contains(two)).isFalse();
+		assertThat(repository.findAllById(Arrays.asList(new SampleEntityPK("one", "eins"), new SampleEntityPK("two", "zwei"))))
+				.hasSize(2);
+	}
+
+	@Test
+	void rejectsNonPositiveBatchSizeForSaveAllInBatches() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> repository.saveAllInBatches(Arrays.asList(new SampleEntity("one", "eins")), 0));
+	}
+
 	@Test // DATAJPA-50
 	void executesCrudOperationsForEntityWithIdClass() {
 
@@ -118,6 +151,22 @@ class JpaRepositoryTests {
 		assertThat(idClassRepository.existsById(id)).isTrue();
 	}
 
+	@Test
+	void findAllByIdForEntityWithIdClassInBatches() {
+
+		PersistableWithIdClass s1 = idClassRepository.save(new PersistableWithIdClass(1L, 1L));
+		PersistableWithIdClass s2 = idClassRepository.save(new PersistableWithIdClass(2L, 2L));
+		PersistableWithIdClass s3 = idClassRepository.save(new PersistableWithIdClass(3L, 3L));
+		idClassRepository.flush();
+
+		JpaRepositoryFactory factory = new JpaRepositoryFactory(em);
+		factory.setBatchSize(2);
+		SampleWithIdClassRepository batchingRepository = factory.getRepository(SampleWithIdClassRepository.class);
+
+		assertThat(batchingRepository.findAllById(Arrays.asList(s1.getId(), s3.getId(),
+				new PersistableWithIdClassPK(1L, 2L), s1.getId()))).containsExactlyInAnyOrder(s1, s3);
+	}
+
 	@Test // DATAJPA-1818
 	void deleteAllByIdInBatch() {
 
@@ -162,7 +211,8 @@ class JpaRepositoryTests {
 		assertThat(repository.findAll()).containsExactly(two);
 	}
 
-	private interface SampleEntityRepository extends JpaRepository<SampleEntity, SampleEntityPK> {
+	private interface SampleEntityRepository
+			extends JpaRepository<SampleEntity, SampleEntityPK>, JpaBatchExecutor<SampleEntity> {
 
 	}
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jpa.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.NotReadablePropertyException;
+
+/**
+ * Unit tests for {@link PropertyValueAccessor}.
+ *
+ * @author agent
+ */
+class PropertyValueAccessorUnitTests {
+
+	@Test
+	void readsPropertyUsingGetter() {
+
+		PropertyValueAccessor accessor = PropertyValueAccessor.of(Sample.class, "name");
+
+		assertThat(accessor.getValue(new Sample("Walter", 42L))).isEqualTo("getter:Walter");
+	}
+
+	@Test
+	void fallsBackToFieldAccess() {
+
+		PropertyValueAccessor accessor = PropertyValueAccessor.of(Sample.class, "version");
+
+		assertThat(accessor.getValue(new Sample("Walter", 42L))).isEqualTo(42L);
+		assertThat(accessor.getValue(new Sample("Walter", null))).isNull();
+	}
+
+	@Test
+	void readsPrimitiveFieldsBoxed() {
+
+		PropertyValueAccessor accessor = PropertyValueAccessor.of(Sample.class, "primitive");
+
+		assertThat(accessor.getValue(new Sample("Walter", null))).isEqualTo(7);
+	}
+
+	@Test
+	void readsPropertyOfSubtype() {
+
+		PropertyValueAccessor accessor = PropertyValueAccessor.of(Sample.class, "version");
+
+		assertThat(accessor.getValue(new ExtendedSample("Walter", 1L))).isEqualTo(1L);
+	}
+
+	@Test
+	void fallsBackToBeanWrapperForUnrelatedTypes() {
+
+		PropertyValueAccessor accessor = PropertyValueAccessor.of(Sample.class, "version");
+
+		assertThat(accessor.getValue(new Unrelated(3L))).isEqualTo(3L);
+	}
+
+	@Test
+	void rejectsUnknownProperty() {
+
+		PropertyValueAccessor accessor = PropertyValueAccessor.of(Sample.class, "unknown");
+
+		assertThatExceptionOfType(NotReadablePropertyException.class)
+				.isThrownBy(() -> accessor.getValue(new Sample("Walter", null)));
+	}
+
+	static class Sample {
+
+		private final String name;
+		private final Long version;
+		private final int primitive = 7;
+
+		Sample(String name, Long version) {
+			this.name = name;
+			this.version = version;
+		}
+
+		public String getName() {
+			return "getter:" + name;
+		}
+	}
+
+	static class ExtendedSample extends Sample {
+
+		ExtendedSample(String name, Long version) {
+			super(name, version);
+		}
+	}
+
+	static class Unrelated {
+
+		private final Long version;
+
+		Unrelated(Long version) {
+			this.version = version;
+		}
+	}
+}
@@ -16,9 +16,14 @@
 package org.springframework.data.jpa.repository.support;
 
 import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.jpa.domain.Specification.where;
@@ -27,11 +32,14 @@ import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.metamodel.SingularAttribute;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -73,6 +81,8 @@ class SimpleJpaRepositoryUnitTests {
 	@Mock CrudMethodMetadata metadata;
 	@Mock EntityGraph<User> entityGraph;
 	@Mock org.springframework.data.jpa.repository.EntityGraph entityGraphAnnotation;
+	@Mock SingularAttribute<User, Integer> idAttribute;
+	@Mock Query deleteQuery;
 
 	@BeforeEach
 	void setUp() {
@@ -131,6 +141,72 @@ class SimpleJpaRepositoryUnitTests {
 		assertThatNoException().isThrownBy(() -> repo.deleteById(4711));
 	}
 
+	@Test
+	void deleteAllByIdInBatchSplitsIdsIntoBatches() {
+
+		when(information.getEntityName()).thenReturn("User");
+		when(idAttribute.getName()).thenReturn("id");
+		doReturn(idAttribute).when(information).getIdAttribute();
+		when(em.createQuery("delete from User x where id in :ids")).thenReturn(deleteQuery);
+
+		repo.setBatchSize(2);
+		repo.deleteAllByIdInBatch(List.of(1, 2, 3));
+
+		verify(deleteQuery).setParameter("ids", List.of(1, 2));
+		verify(deleteQuery).setParameter("ids", List.of(3));
+		verify(deleteQuery, times(2)).executeUpdate();
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void deleteAllDoesNotApplyEntityGraphToIdentifierQuery() throws Exception {
+
+		when(entityGraphAnnotation.value()).thenReturn("User.detail");
+		when(entityGraphAnnotation.type()).thenReturn(EntityGraphType.LOAD);
+		when(metadata.getEntityGraph()).thenReturn(Optional.of(entityGraphAnnotation));
+		when(em.getEntityGraph("User.detail")).thenReturn((EntityGraph) entityGraph);
+		when(metadata.getMethod()).thenReturn(CrudRepository.class.getMethod("deleteAll"));
+		when(information.getEntityName()).thenReturn("User");
+		when(idAttribute.getName()).thenReturn("id");
+		doReturn(idAttribute).when(information).getRequiredIdAttribute();
+		when(em.createQuery("select x.id from User x")).thenReturn(deleteQuery);
+		when(deleteQuery.getResultList()).thenReturn(List.of());
+
+		repo.deleteAll();
+
+		verify(deleteQuery).getResultList();
+		verify(deleteQuery, never()).setHint(anyString(), any());
+	}
+
+	@Test
+	void partitionsIntoBatchesOfGivenSize() {
+
+		assertThat(SimpleJpaRepository.partition(List.of(1, 2, 3, 4, 5), 2)).containsExactly(List.of(1, 2),
+				List.of(3, 4), List.of(5));
+		assertThat(SimpleJpaRepository.partition(List.of(), 2)).isEmpty();
+	}
+
+	@Test
+	void padsBatchesToPowerOfTwo() {
+
+		assertThat(SimpleJpaRepository.padToPowerOfTwo(List.of(1), 500)).containsExactly(1);
+		assertThat(SimpleJpaRepository.padToPowerOfTwo(List.of(1, 2), 500)).containsExactly(1, 2);
+		assertThat(SimpleJpaRepository.padToPowerOfTwo(List.of(1, 2, 3), 500)).containsExactly(1, 2, 3, 3);
+		assertThat(SimpleJpaRepository.padToPowerOfTwo(List.of(1, 2, 3, 4, 5), 500)).hasSize(8).endsWith(5, 5, 5, 5);
+	}
+
+	@Test
+	void doesNotPadBatchesBeyondBatchSize() {
+
+		assertThat(SimpleJpaRepository.padToPowerOfTwo(List.of(1, 2, 3, 4, 5), 6)).containsExactly(1, 2, 3, 4, 5, 5);
+		assertThat(SimpleJpaRepository.padToPowerOfTwo(List.of(1, 2, 3, 4, 5), 5)).containsExactly(1, 2, 3, 4, 5);
+	}
+
+	@Test
+	void rejectsNonPositiveBatchSize() {
+		assertThatIllegalArgumentException().isThrownBy(() -> repo.setBatchSize(0));
+	}
+
 	@Test // DATAJPA-689, DATAJPA-696
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	void shouldPropagateConfiguredEntityGraphToFindOne() throws Exception {
@@ -28,6 +28,7 @@ import jakarta.persistence.metamodel.EmbeddableType;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.ManagedType;
 import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
 import jakarta.persistence.metamodel.Type.PersistenceType;
 
 import org.junit.jupiter.api.Test;
@@ -85,6 +86,37 @@ class JpaMetamodelUnitTests {
 		assertThat(model.isMappedType(Inner.class)).isFalse();
 	}
 
+	@Test
+	void resolvesSingleIdAttributeFromIndex() {
+
+		JpaMetamodel model = JpaMetamodel.of(metamodel);
+
+		EntityType<?> entity = getEntity(Wrapper.class);
+		SingularAttribute<?, ?> id = mock(SingularAttribute.class);
+		SingularAttribute<?, ?> name = mock(SingularAttribute.class);
+
+		doReturn("id").when(id).getName();
+		doReturn(Long.class).when(id).getJavaType();
+		doReturn(true).when(id).isId();
+		doReturn("name").when(name).getName();
+		doReturn(String.class).when(name).getJavaType();
+		doReturn(true).when(entity).hasSingleIdAttribute();
+		doReturn(new HashSet<>(Arrays.asList(id, name))).when(entity).getSingularAttributes();
+		doReturn(Collections.singleton(entity)).when(metamodel).getEntities();
+		doReturn(Collections.singleton(entity)).when(metamodel).getManagedTypes();
+
+		assertThat(model.isSingleIdAttribute(Wrapper.class, "id", Long.class)).isTrue();
+		assertThat(model.isSingleIdAttribute(Wrapper.class, "id", Integer.class)).isFalse();
+		assertThat(model.isSingleIdAttribute(Wrapper.class, "name", String.class)).isFalse();
+		assertThat(model.isSingleIdAttribute(ExplicitEmbeddable.class, "id", Long.class)).isFalse();
+		assertThat(model.isMappedType(Wrapper.class)).isTrue();
+		assertThat(model.isJpaManaged(Wrapper.class)).isTrue();
+
+		verify(metamodel).getEntities();
+		verify(metamodel).getManagedTypes();
+		verify(metamodel, never()).managedType(any());
+	}
+
 	private EmbeddableType<?> getEmbeddable(Class<?> type) {
 
 		EmbeddableType<?> managedType = getManagedType(type, EmbeddableType.class);